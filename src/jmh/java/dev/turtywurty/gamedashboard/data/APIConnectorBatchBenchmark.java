@@ -0,0 +1,187 @@
+package dev.turtywurty.gamedashboard.data;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+// Drives the batched lookups against a local mock of the games/batch, games/cover/batch and games/external/batch
+// endpoints. APIConnectorBatchTest checks that these lookups return the right games.
+// Run from the project directory, so env/.env supplies the API key.
+@State(Scope.Benchmark)
+public class APIConnectorBatchBenchmark {
+    private static final Path APP_DATA_PATH;
+    private static final HttpServer SERVER;
+
+    // APIConnector reads these once when it is loaded, so they must be set before it is first touched.
+    static {
+        try {
+            APP_DATA_PATH = Files.createTempDirectory("gamedashboard-jmh");
+            SERVER = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        SERVER.createContext("/games/batch", exchange -> respond(exchange, gamesBatch(exchange)));
+        SERVER.createContext("/games/cover/batch", exchange -> respond(exchange, coversBatch(exchange)));
+        SERVER.createContext("/games/external/batch", exchange -> respond(exchange, externalBatch(exchange)));
+        SERVER.createContext("/", exchange -> respond(exchange, null));
+        SERVER.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        SERVER.start();
+
+        System.setProperty("gamedashboard.appDataDir", APP_DATA_PATH.toString());
+        System.setProperty("gamedashboard.api.baseUrl", "http://127.0.0.1:" + SERVER.getAddress().getPort() + "/");
+        System.setProperty("gamedashboard.api.requestsPerSecond", "100000");
+        System.setProperty("gamedashboard.api.burst", "100000");
+    }
+
+    @Param({"10", "50"})
+    public int lookupCount;
+
+    // Every invocation asks for ids that have not been seen yet, so the response cache never answers for the server.
+    private final AtomicInteger nextId = new AtomicInteger(1);
+
+    @TearDown
+    public void tearDown() throws IOException {
+        SERVER.stop(0);
+        try (Stream<Path> paths = Files.walk(APP_DATA_PATH)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public Map<Integer, APIConnector.GameResult> gamesByIds() {
+        return APIConnector.getGamesByIDs(nextIds(), true, true).join();
+    }
+
+    @Benchmark
+    public Map<String, Integer> gameIdsFromExternalIds() {
+        List<String> externalIds = nextIds().stream().map(APIConnectorBatchBenchmark::externalId).toList();
+        return APIConnector.getGameIdsFromExternalIds(APIConnector.ExternalPlatform.STEAM, externalIds).join();
+    }
+
+    private List<Integer> nextIds() {
+        int first = this.nextId.getAndAdd(this.lookupCount);
+        List<Integer> ids = new ArrayList<>(this.lookupCount);
+        for (int index = 0; index < this.lookupCount; index++) {
+            ids.add(first + index);
+        }
+
+        return ids;
+    }
+
+    private static JsonArray gamesBatch(HttpExchange exchange) {
+        List<String> fields = List.of(query(exchange).get("fields").split(","));
+        var games = new JsonArray();
+        for (String id : query(exchange).get("ids").split(",")) {
+            int gameId = Integer.parseInt(id);
+            var game = new JsonObject();
+            game.addProperty("id", gameId);
+            game.addProperty("name", name(gameId));
+            if (fields.contains("summary"))
+                game.addProperty("summary", summary(gameId));
+            if (fields.contains("cover"))
+                game.addProperty("cover", -gameId);
+            games.add(game);
+        }
+
+        return games;
+    }
+
+    // Cover ids are the negated game id, so a cover can never be mistaken for the game it belongs to.
+    private static JsonArray coversBatch(HttpExchange exchange) {
+        var covers = new JsonArray();
+        for (String id : query(exchange).get("ids").split(",")) {
+            int gameId = -Integer.parseInt(id);
+            var cover = new JsonObject();
+            cover.addProperty("id", -gameId);
+            cover.addProperty("game", gameId);
+            cover.addProperty("url", "//images.igdb.com/igdb/image/upload/t_thumb/" + gameId + ".jpg");
+            covers.add(cover);
+        }
+
+        return covers;
+    }
+
+    private static JsonArray externalBatch(HttpExchange exchange) {
+        var games = new JsonArray();
+        for (String externalId : query(exchange).get("externalIds").split(",")) {
+            var game = new JsonObject();
+            game.addProperty("externalId", externalId);
+            game.addProperty("id", Integer.parseInt(externalId.substring("app".length())));
+            games.add(game);
+        }
+
+        return games;
+    }
+
+    // A null body answers 404, which is how a missing endpoint looks to APIConnector.
+    private static void respond(HttpExchange exchange, JsonArray body) throws IOException {
+        try (exchange) {
+            byte[] bytes = body == null ? new byte[0] : body.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(body == null ? 404 : 200, bytes.length == 0 ? -1 : bytes.length);
+            if (bytes.length > 0) {
+                try (OutputStream output = exchange.getResponseBody()) {
+                    output.write(bytes);
+                }
+            }
+        }
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null)
+            return parameters;
+
+        for (String parameter : query.split("&")) {
+            int separator = parameter.indexOf('=');
+            if (separator > 0) {
+                parameters.put(
+                        URLDecoder.decode(parameter.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8)
+                );
+            }
+        }
+
+        return parameters;
+    }
+
+    private static String name(int id) {
+        return "Game " + id;
+    }
+
+    private static String summary(int id) {
+        return "Summary of game " + id;
+    }
+
+    private static String externalId(int id) {
+        return "app" + id;
+    }
+}
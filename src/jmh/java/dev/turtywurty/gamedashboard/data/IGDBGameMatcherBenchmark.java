@@ -0,0 +1,129 @@
+package dev.turtywurty.gamedashboard.data;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class IGDBGameMatcherBenchmark {
+    private static final List<String> LOCAL_TITLES = List.of(
+            "The Witcher® 3: Wild Hunt - Game of the Year Edition",
+            "DARK SOULS™ III",
+            "Sid Meier's Civilization® VI",
+            "Half-Life 2: Episode Two",
+            "Call of Duty®: Modern Warfare® II",
+            "Baldur's Gate 3",
+            "STAR WARS™ Jedi: Fallen Order™ Deluxe Edition",
+            "Tom Clancy's Rainbow Six® Siege",
+            "Portal 2",
+            "DOOM Eternal"
+    );
+
+    private static final List<String> CANDIDATE_TITLES = List.of(
+            "The Witcher 3: Wild Hunt",
+            "The Witcher 3: Wild Hunt - Game of the Year Edition",
+            "The Witcher 3: Wild Hunt - Hearts of Stone",
+            "The Witcher 3: Wild Hunt - Blood and Wine",
+            "The Witcher 2: Assassins of Kings",
+            "The Witcher",
+            "Dark Souls III",
+            "Dark Souls III: The Ringed City",
+            "Dark Souls II",
+            "Dark Souls: Remastered",
+            "Sid Meier's Civilization VI",
+            "Sid Meier's Civilization V",
+            "Sid Meier's Civilization VI: Gathering Storm",
+            "Half-Life 2",
+            "Half-Life 2: Episode One",
+            "Half-Life 2: Episode Two",
+            "Call of Duty: Modern Warfare II",
+            "Call of Duty: Modern Warfare 2",
+            "Call of Duty: Modern Warfare III",
+            "Baldur's Gate 3",
+            "Baldur's Gate II: Shadows of Amn",
+            "Star Wars Jedi: Fallen Order",
+            "Star Wars Jedi: Survivor",
+            "Tom Clancy's Rainbow Six Siege",
+            "Tom Clancy's Rainbow Six Extraction",
+            "Portal 2",
+            "Portal",
+            "Doom Eternal",
+            "Doom Eternal: The Ancient Gods - Part One",
+            "Doom"
+    );
+
+    @Benchmark
+    public IGDBGameMatcher.MatchResult findBestMatch(Candidates candidates, Titles titles) {
+        return IGDBGameMatcher.findBestMatch(titles.next(), candidates.candidates, "PC (Microsoft Windows)", null);
+    }
+
+    @Benchmark
+    public List<String> generateQueries(Titles titles) {
+        return IGDBGameMatcher.generateQueries(titles.next());
+    }
+
+    @State(Scope.Benchmark)
+    public static class Candidates {
+        @Param({"10", "50"})
+        public int candidateCount;
+
+        private List<APIConnector.IGDBGameCandidate> candidates;
+
+        @Setup
+        public void setup() {
+            List<APIConnector.IGDBGameCandidate> candidates = new ArrayList<>(this.candidateCount);
+            for (int index = 0; index < this.candidateCount; index++) {
+                String name = CANDIDATE_TITLES.get(index % CANDIDATE_TITLES.size());
+                candidates.add(candidate(index + 1, name, index >= CANDIDATE_TITLES.size()));
+            }
+
+            this.candidates = List.copyOf(candidates);
+        }
+    }
+
+    // Query generation only depends on the title, so it is kept apart from the candidateCount parameter.
+    @State(Scope.Benchmark)
+    public static class Titles {
+        private int titleIndex;
+
+        String next() {
+            return LOCAL_TITLES.get(this.titleIndex++ % LOCAL_TITLES.size());
+        }
+    }
+
+    private static APIConnector.IGDBGameCandidate candidate(int id, String name, boolean port) {
+        String slug = name.toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9]+", "-")
+                .replaceAll("(^-|-$)", "");
+        List<APIConnector.IGDBPlatform> platforms = port
+                ? List.of(new APIConnector.IGDBPlatform(48, "PlayStation 4"))
+                : List.of(new APIConnector.IGDBPlatform(6, "PC (Microsoft Windows)"),
+                new APIConnector.IGDBPlatform(49, "Xbox One"));
+        long releaseDate = LocalDate.of(2010 + id % 14, 1 + id % 12, 1)
+                .atStartOfDay()
+                .toEpochSecond(ZoneOffset.UTC);
+
+        return new APIConnector.IGDBGameCandidate(
+                id,
+                name,
+                slug,
+                List.of(name.toUpperCase(Locale.ROOT), name.replace(":", "")),
+                platforms,
+                releaseDate,
+                0,
+                name.contains(" - ") ? id - 1 : null,
+                null,
+                id * 10,
+                null,
+                null,
+                null
+        );
+    }
+}
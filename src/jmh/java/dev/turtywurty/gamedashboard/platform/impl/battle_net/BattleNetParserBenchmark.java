@@ -0,0 +1,199 @@
+package dev.turtywurty.gamedashboard.platform.impl.battle_net;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+
+@State(Scope.Benchmark)
+public class BattleNetParserBenchmark {
+    private static final List<String> PRODUCT_CODES = List.of(
+            "wow", "wow_classic", "pro", "hero", "s2", "w3", "d3", "fenris", "hs_beta", "viper", "odin", "lazr", "zeus"
+    );
+
+    @Param({"16", "256"})
+    public int installCount;
+
+    private Path productDb;
+    private List<String> buildInfo;
+
+    @Setup
+    public void setup() throws IOException {
+        this.productDb = Files.createTempFile("product", ".db");
+        Files.write(this.productDb, productDb(this.installCount));
+        this.buildInfo = buildInfo(this.installCount);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.productDb);
+    }
+
+    @Benchmark
+    public BattleNetProductDbParser.Database parseProductDb() throws IOException {
+        return BattleNetProductDbParser.parseProductDb(this.productDb);
+    }
+
+    @Benchmark
+    public BattleNetNGDPTableParser.Table parseNGDPTable() {
+        return BattleNetNGDPTableParser.parse(this.buildInfo);
+    }
+
+    private static byte[] productDb(int installCount) {
+        ProtoWriter database = new ProtoWriter();
+        for (int index = 0; index < installCount; index++) {
+            String productCode = PRODUCT_CODES.get(index % PRODUCT_CODES.size());
+            String uid = index < PRODUCT_CODES.size() ? productCode : productCode + "_" + index;
+
+            ProtoWriter settings = new ProtoWriter()
+                    .string(1, "C:/Program Files (x86)/" + uid)
+                    .string(2, "us")
+                    .varint(3, 2)
+                    .varint(4, 2)
+                    .varint(5, 3)
+                    .string(6, "enUS")
+                    .string(7, "enUS")
+                    .message(8, new ProtoWriter().string(1, "enUS").varint(2, 3))
+                    .string(10, "live")
+                    .string(11, "USA")
+                    .string(12, "US");
+
+            ProtoWriter baseState = new ProtoWriter()
+                    .varint(1, 1)
+                    .varint(2, 1)
+                    .varint(3, 1)
+                    .string(7, "1.0." + index + ".54321")
+                    .message(8, new ProtoWriter().string(1, "us").string(2, hex(index, 16)))
+                    .string(11, "install_" + index)
+                    .string(12, hex(index + 1, 16))
+                    .string(14, hex(index + 2, 16));
+
+            ProtoWriter cachedState = new ProtoWriter()
+                    .message(1, baseState)
+                    .message(2, new ProtoWriter().fixed64(1, 1.0).varint(4, 0))
+                    .message(4, new ProtoWriter().string(1, "").fixed64(2, 1.0).varint(4, 0).varint(5, 0));
+
+            ProtoWriter install = new ProtoWriter()
+                    .string(1, uid)
+                    .string(2, productCode)
+                    .message(3, settings)
+                    .message(4, cachedState)
+                    .message(5, new ProtoWriter().varint(1, 0).varint(2, index))
+                    .string(6, productCode);
+            database.message(1, install);
+        }
+
+        for (String productCode : PRODUCT_CODES) {
+            database.message(4, new ProtoWriter().string(1, productCode).string(2, hex(productCode.hashCode(), 16)));
+        }
+
+        return database.toByteArray();
+    }
+
+    private static List<String> buildInfo(int rowCount) {
+        List<String> lines = new ArrayList<>(rowCount + 2);
+        lines.add("Branch!STRING:0|Active!DEC:1|Build Key!HEX:16|CDN Key!HEX:16|Install Key!HEX:16"
+                + "|IM Size!DEC:4|CDN Path!STRING:0|CDN Hosts!STRING:0|CDN Servers!STRING:0|Tags!STRING:0"
+                + "|Armadillo!STRING:0|Last Activated!STRING:0|Version!STRING:0|KeyRing!HEX:16|Product!STRING:0");
+        for (int index = 0; index < rowCount; index++) {
+            String productCode = PRODUCT_CODES.get(index % PRODUCT_CODES.size());
+            lines.add(String.join("|",
+                    index % 2 == 0 ? "us" : "eu",
+                    index == 0 ? "1" : "0",
+                    hex(index, 16).toUpperCase(Locale.ROOT),
+                    hex(index + 1, 16),
+                    "",
+                    "",
+                    "tpr/" + productCode,
+                    "level3.blizzard.com us.cdn.blizzard.com",
+                    "http://us.cdn.blizzard.com/?maxhosts=4 https://blzddist1-a.akamaihd.net/?fallback=1",
+                    "Windows x86_64 US? enUS speech?:Windows x86_64 US? enUS text?",
+                    "",
+                    "",
+                    "1." + index + ".0." + (50_000 + index),
+                    hex(index + 2, 16),
+                    productCode
+            ));
+        }
+
+        lines.add("## seqn = 2749913");
+        return lines;
+    }
+
+    private static String hex(int seed, int byteCount) {
+        byte[] bytes = new byte[byteCount];
+        int state = seed * 0x9E3779B9 + 0x7F4A7C15;
+        for (int index = 0; index < byteCount; index++) {
+            state ^= state << 13;
+            state ^= state >>> 17;
+            state ^= state << 5;
+            bytes[index] = (byte) state;
+        }
+
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    private static final class ProtoWriter {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        private ProtoWriter varint(int field, long value) {
+            writeKey(field, 0);
+            writeVarint(value);
+            return this;
+        }
+
+        private ProtoWriter fixed64(int field, double value) {
+            writeKey(field, 1);
+            long bits = Double.doubleToLongBits(value);
+            for (int shift = 0; shift < 64; shift += 8) {
+                this.out.write((int) (bits >>> shift) & 0xFF);
+            }
+
+            return this;
+        }
+
+        private ProtoWriter string(int field, String value) {
+            return bytes(field, value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private ProtoWriter message(int field, ProtoWriter message) {
+            return bytes(field, message.toByteArray());
+        }
+
+        private ProtoWriter bytes(int field, byte[] value) {
+            writeKey(field, 2);
+            writeVarint(value.length);
+            this.out.writeBytes(value);
+            return this;
+        }
+
+        private byte[] toByteArray() {
+            return this.out.toByteArray();
+        }
+
+        private void writeKey(int field, int wireType) {
+            writeVarint((long) field << 3 | wireType);
+        }
+
+        private void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                this.out.write((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+
+            this.out.write((int) value);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package dev.turtywurty.gamedashboard.util;
+
+import com.google.gson.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class VDFtoJsonBenchmark {
+    @Param({"200", "2000"})
+    public int appCount;
+
+    private String libraryFolders;
+    private String appManifest;
+
+    @Setup
+    public void setup() {
+        this.libraryFolders = libraryFolders(this.appCount);
+        this.appManifest = appManifest(this.appCount);
+    }
+
+    @Benchmark
+    public JsonObject libraryFolders() {
+        return VDFtoJson.toJSONObject(this.libraryFolders, true);
+    }
+
+    @Benchmark
+    public JsonObject appManifest() {
+        return VDFtoJson.toJSONObject(this.appManifest, true);
+    }
+
+    @Benchmark
+    public int libraryFoldersStreaming() {
+        var visitor = new CountingVisitor();
+        VDFReader.read(this.libraryFolders, visitor);
+        return visitor.count;
+    }
+
+    @Benchmark
+    public int appManifestStreaming() {
+        var visitor = new CountingVisitor();
+        VDFReader.read(this.appManifest, visitor);
+        return visitor.count;
+    }
+
+    private static String libraryFolders(int appCount) {
+        StringBuilder builder = new StringBuilder("\"libraryfolders\"\n{\n");
+        int libraries = 4;
+        for (int library = 0; library < libraries; library++) {
+            builder.append("\t\"").append(library).append("\"\n\t{\n")
+                    .append("\t\t\"path\"\t\t\"D:\\\\SteamLibrary").append(library).append("\"\n")
+                    .append("\t\t\"label\"\t\t\"\"\n")
+                    .append("\t\t\"contentid\"\t\t\"").append(4_815_162_342L + library).append("\"\n")
+                    .append("\t\t\"totalsize\"\t\t\"").append(2_000_398_934_016L).append("\"\n")
+                    .append("\t\t\"update_clean_bytes_tally\"\t\t\"0\"\n")
+                    .append("\t\t\"time_last_update_verified\"\t\t\"1718000000\"\n")
+                    .append("\t\t\"apps\"\n\t\t{\n");
+            for (int app = library; app < appCount; app += libraries) {
+                builder.append("\t\t\t\"").append(10 + app * 10).append("\"\t\t\"")
+                        .append(1_000_000L + app * 7_919L).append("\"\n");
+            }
+
+            builder.append("\t\t}\n\t}\n");
+        }
+
+        return builder.append("}\n").toString();
+    }
+
+    // A single manifest is small, so scale the depot and workshop sections to match heavily modded installs.
+    private static String appManifest(int depotCount) {
+        StringBuilder builder = new StringBuilder("\"AppState\"\n{\n")
+                .append("\t\"appid\"\t\t\"292030\"\n")
+                .append("\t\"universe\"\t\t\"1\"\n")
+                .append("\t\"LauncherPath\"\t\t\"C:\\\\Program Files (x86)\\\\Steam\\\\steam.exe\"\n")
+                .append("\t\"name\"\t\t\"The Witcher 3: Wild Hunt\"\n")
+                .append("\t\"StateFlags\"\t\t\"4\"\n")
+                .append("\t\"installdir\"\t\t\"The Witcher 3\"\n")
+                .append("\t\"LastUpdated\"\t\t\"1718000000\"\n")
+                .append("\t\"SizeOnDisk\"\t\t\"52343534256\"\n")
+                .append("\t\"buildid\"\t\t\"14542156\"\n")
+                .append("\t\"LastOwner\"\t\t\"76561198000000000\"\n")
+                .append("\t\"AutoUpdateBehavior\"\t\t\"0\"\n")
+                .append("\t\"AllowOtherDownloadsWhileRunning\"\t\t\"0\"\n")
+                .append("\t\"UserConfig\"\n\t{\n\t\t\"language\"\t\t\"english\"\n\t}\n")
+                .append("\t\"MountedConfig\"\n\t{\n\t\t\"language\"\t\t\"english\"\n\t}\n")
+                .append("\t\"InstalledDepots\"\n\t{\n");
+        for (int depot = 0; depot < depotCount; depot++) {
+            builder.append("\t\t\"").append(292031 + depot).append("\"\n\t\t{\n")
+                    .append("\t\t\t\"manifest\"\t\t\"").append(5_046_300_000_000_000_000L + depot * 104_729L).append("\"\n")
+                    .append("\t\t\t\"size\"\t\t\"").append(1_048_576L * (depot + 1)).append("\"\n")
+                    .append("\t\t}\n");
+        }
+
+        builder.append("\t}\n\t\"SharedDepots\"\n\t{\n\t\t\"228988\"\t\t\"228980\"\n\t}\n");
+        return builder.append("}\n").toString();
+    }
+
+    private static final class CountingVisitor implements VDFReader.Visitor {
+        private int count;
+
+        @Override
+        public void value(CharSequence key, CharSequence value) {
+            this.count += value.length();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package dev.turtywurty.gamedashboard;
 
 import dev.turtywurty.gamedashboard.data.Database;
+import dev.turtywurty.gamedashboard.data.DiscoveryScheduler;
+import dev.turtywurty.gamedashboard.platform.LibraryWatcher;
 import dev.turtywurty.gamedashboard.preloader.GameDashboardPreloader;
 import dev.turtywurty.gamedashboard.util.OperatingSystem;
 import dev.turtywurty.gamedashboard.util.Utils;
@@ -43,7 +45,10 @@ public class GameDashboardApp extends Application {
 
         var root = new StackPane();
 
-        Runnable openDashboard = () -> Utils.runOnFxThread(() -> root.getChildren().setAll(new GameDashboardPane()));
+        Runnable openDashboard = () -> Utils.runOnFxThread(() -> {
+            root.getChildren().setAll(new GameDashboardPane());
+            LibraryWatcher.getInstance().start();
+        });
 
         if (Database.getInstance().isOnboardingComplete()) {
             openDashboard.run();
@@ -72,6 +77,13 @@ public class GameDashboardApp extends Application {
         primaryStage.show();
     }
 
+    @Override
+    public void stop() {
+        DiscoveryScheduler.getInstance().cancelAll();
+        LibraryWatcher.getInstance().close();
+        Database.getInstance().shutdown();
+    }
+
     public static String getAPIKey() throws RuntimeException {
         return Optional.ofNullable(ENVIRONMENT.get("API_KEY", null))
                 .orElseThrow(() -> new RuntimeException("API key not found"));
@@ -86,6 +98,10 @@ public class GameDashboardApp extends Application {
     }
 
     private static Path getAppDataDirectory() {
+        String override = System.getProperty("gamedashboard.appDataDir");
+        if (override != null && !override.isBlank())
+            return Path.of(override);
+
         return switch (OperatingSystem.getCurrent()) {
             case WINDOWS -> Path.of(System.getenv("APPDATA"), "GameDashboard");
             case MACOS -> Path.of(System.getProperty("user.home"), "Library", "Application Support", "GameDashboard");
@@ -6,6 +6,9 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import dev.turtywurty.gamedashboard.GameDashboardApp;
 import dev.turtywurty.gamedashboard.util.Utils;
 import lombok.AllArgsConstructor;
@@ -18,30 +21,61 @@ import okhttp3.Response;
 import okhttp3.ResponseBody;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.SocketTimeoutException;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public final class APIConnector {
-    private static final String BASE_URL = "https://api.turtywurty.dev/";
+    private static final String BASE_URL = System.getProperty("gamedashboard.api.baseUrl", "https://api.turtywurty.dev/");
     private static final int MAX_RATE_LIMIT_RETRIES = 5;
     private static final long MAX_RATE_LIMIT_DELAY_MILLIS = 60_000;
-    private static final long MIN_REQUEST_INTERVAL_MILLIS = 250;
-    private static final Object REQUEST_THROTTLE_LOCK = new Object();
-    private static final AtomicLong RATE_LIMITED_UNTIL = new AtomicLong();
-
-    private static long nextRequestTimeMillis;
+    private static final RateLimiter REQUEST_LIMITER = new RateLimiter(
+            Double.parseDouble(System.getProperty("gamedashboard.api.requestsPerSecond", "4")),
+            Integer.getInteger("gamedashboard.api.burst", 8),
+            Integer.getInteger("gamedashboard.api.maxConcurrentRequests", 8)
+    );
+    private static final APIResponseCache RESPONSE_CACHE = new APIResponseCache(Database.getAppDataPath());
+    private static final int MAX_BATCH_SIZE = 50;
+    private static final long BATCH_LINGER_MILLIS = 25;
+    private static final long BATCH_RETRY_DELAY_MILLIS = Long.getLong("gamedashboard.api.batchRetryDelayMillis", 600_000);
+    // Batch requests are skipped until this time; Long.MAX_VALUE once the server reports it does not support them.
+    private static final AtomicLong BATCH_ENDPOINTS_RETRY_AT_MILLIS = new AtomicLong();
+    private static final BatchCoalescer<ExternalGameId, Integer> EXTERNAL_ID_COALESCER =
+            new BatchCoalescer<>(MAX_BATCH_SIZE, BATCH_LINGER_MILLIS, APIConnector::resolveExternalIds);
+    private static final Map<String, BatchCoalescer<Integer, GameResult>> GAME_COALESCERS = new ConcurrentHashMap<>();
+    private static final Map<String, CompletableFuture<String>> IN_FLIGHT_REQUESTS = new ConcurrentHashMap<>();
+    private static final int MAX_PARALLEL_QUERIES = 3;
+    private static final int MAX_LOCAL_INDEX_CANDIDATES = 25;
+    private static final ExecutorService QUERY_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
 
     private static final OkHttpClient HTTP_CLIENT = new OkHttpClient();
     private static final Gson GSON = new GsonBuilder()
@@ -73,37 +107,33 @@ public final class APIConnector {
                     .addQueryParameter("fields", gameFields(includeSummary, includeCover))
                     .build();
 
-            JsonArray searchResults;
+            List<GameFields> searchResults;
             try {
-                searchResults = executeJson(new Request.Builder().url(searchUrl).build(), "Search for games")
-                        .getAsJsonArray();
+                searchResults = executeStreaming(
+                        new Request.Builder().url(searchUrl).build(),
+                        "Search for games",
+                        reader -> readGames(reader, requestedFields(searchUrl))
+                );
             } catch (APIException exception) {
                 if (exception.isNotFound())
                     return List.of();
 
                 throw exception;
-            } catch (IllegalStateException exception) {
-                throw invalidResponse("Search for games", "Expected a JSON array", exception);
             }
 
             List<GameResult> gameResults = new ArrayList<>();
-            for (JsonElement resultElement : searchResults) {
-                if (!resultElement.isJsonObject())
-                    continue;
-
-                JsonObject game = resultElement.getAsJsonObject();
-                Integer igdbGameId = getOptionalInteger(game, "id");
-                String name = getRequiredString(game, "name", "Search for games");
-                String summary = includeSummary ? getOptionalString(game, "summary") : null;
+            for (GameFields game : searchResults) {
+                if (game.name == null)
+                    throw invalidResponse("Search for games", "Missing string property 'name'", null);
 
+                String summary = includeSummary ? game.summary : null;
                 if (!includeCover) {
-                    gameResults.add(new GameResult(igdbGameId, name, null, null, summary));
+                    gameResults.add(new GameResult(game.id, game.name, null, null, summary));
                     continue;
                 }
 
-                Integer coverId = getOptionalInteger(game, "cover");
-                CoverUrls coverUrls = coverId == null ? null : getCoverUrls(coverId);
-                gameResults.add(createGameResult(igdbGameId, name, summary, coverUrls));
+                CoverUrls coverUrls = game.coverId == null ? null : getCoverUrls(game.coverId);
+                gameResults.add(createGameResult(game.id, game.name, summary, coverUrls));
             }
 
             return gameResults;
@@ -172,32 +202,23 @@ public final class APIConnector {
             Integer releaseYear
     ) {
         return CompletableFuture.supplyAsync(() -> {
-            List<String> queries = IGDBGameMatcher.generateQueries(title);
-            Map<Integer, IGDBGameCandidate> candidatesById = new LinkedHashMap<>();
-            for (String query : queries) {
-                List<IGDBGameCandidate> candidates = searchGameCandidates(query, includeSummary, false, 15);
-                if (candidates.isEmpty()) {
-                    candidates = search(query, includeSummary, false).join().stream()
-                            .map(APIConnector::createFallbackCandidate)
-                            .toList();
-                }
-
-                for (IGDBGameCandidate candidate : candidates) {
-                    candidatesById.putIfAbsent(candidate.id(), candidate);
-                }
-            }
-
             IGDBGameMatcher.MatchResult match = IGDBGameMatcher.findBestMatch(
                     title,
-                    List.copyOf(candidatesById.values()),
+                    IGDBTitleIndex.getInstance().search(title, MAX_LOCAL_INDEX_CANDIDATES),
                     platform,
                     releaseYear
             );
-            logFuzzyMatchDebug(title, queries, match);
-            if (!includeCover || match.winner() == null || match.winner().candidate().id() <= 0)
+            if (IGDBGameMatcher.isConfidentMatch(title, match)) {
+                logFuzzyMatchDebug(title, List.of(), match);
+            } else {
+                match = findBestRemoteMatch(title, includeSummary, platform, releaseYear);
+            }
+
+            // The local index keeps no summaries, so a winner is looked up by ID whenever one is wanted.
+            if ((!includeCover && !includeSummary) || match.winner() == null || match.winner().candidate().id() <= 0)
                 return addWinnerCoverDetails(match, includeSummary, includeCover);
 
-            GameResult detailedResult = getGameByID(match.winner().candidate().id(), includeSummary, true).join();
+            GameResult detailedResult = getGameByID(match.winner().candidate().id(), includeSummary, includeCover).join();
             if (detailedResult == null)
                 return addWinnerCoverDetails(match, includeSummary, includeCover);
 
@@ -229,6 +250,110 @@ public final class APIConnector {
         });
     }
 
+    private static IGDBGameMatcher.MatchResult findBestRemoteMatch(
+            String title,
+            boolean includeSummary,
+            String platform,
+            Integer releaseYear
+    ) {
+        List<String> queries = IGDBGameMatcher.generateQueries(title);
+        List<List<IGDBGameCandidate>> candidatesByQuery = new ArrayList<>(Collections.nCopies(queries.size(), null));
+        CompletionService<QueryCandidates> completionService = new ExecutorCompletionService<>(QUERY_EXECUTOR);
+        List<Future<QueryCandidates>> inFlight = new ArrayList<>();
+        int submitted = 0;
+        IGDBGameMatcher.MatchResult match = null;
+        try {
+            while (submitted < Math.min(MAX_PARALLEL_QUERIES, queries.size())) {
+                inFlight.add(submitQuery(completionService, queries, submitted++, includeSummary));
+            }
+
+            for (int completed = 0; completed < submitted; completed++) {
+                QueryCandidates result = takeQueryResult(completionService);
+                candidatesByQuery.set(result.index(), result.candidates());
+                match = IGDBGameMatcher.findBestMatch(
+                        title,
+                        mergeCandidates(candidatesByQuery),
+                        platform,
+                        releaseYear
+                );
+                if (IGDBGameMatcher.isConfidentMatch(title, match))
+                    break;
+
+                if (submitted < queries.size())
+                    inFlight.add(submitQuery(completionService, queries, submitted++, includeSummary));
+            }
+        } finally {
+            // Queries not yet started after a confident match (or a failure) are dropped, so they use no API quota.
+            // Running ones are left to finish: interrupting one would fail every other caller sharing its request.
+            for (Future<QueryCandidates> future : inFlight) {
+                future.cancel(false);
+            }
+        }
+
+        if (match == null) {
+            match = IGDBGameMatcher.findBestMatch(title, List.of(), platform, releaseYear);
+        }
+
+        logFuzzyMatchDebug(title, queries.subList(0, submitted), match);
+        return match;
+    }
+
+    private static Future<QueryCandidates> submitQuery(
+            CompletionService<QueryCandidates> completionService,
+            List<String> queries,
+            int index,
+            boolean includeSummary
+    ) {
+        String query = queries.get(index);
+        return completionService.submit(() -> {
+            List<IGDBGameCandidate> candidates = searchGameCandidates(query, includeSummary, false, 15);
+            if (candidates.isEmpty()) {
+                candidates = search(query, includeSummary, false).join().stream()
+                        .map(APIConnector::createFallbackCandidate)
+                        .toList();
+            }
+
+            return new QueryCandidates(index, candidates);
+        });
+    }
+
+    private static QueryCandidates takeQueryResult(CompletionService<QueryCandidates> completionService) {
+        try {
+            return completionService.take().get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new APIException(
+                    503,
+                    "interrupted",
+                    "Search for game candidates was interrupted",
+                    null,
+                    exception
+            );
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause() instanceof CompletionException completionException
+                    ? completionException.getCause()
+                    : exception.getCause();
+            if (cause instanceof RuntimeException runtimeException)
+                throw runtimeException;
+
+            throw new APIException(503, "service_unavailable", "Search for game candidates failed", null, cause);
+        }
+    }
+
+    private static List<IGDBGameCandidate> mergeCandidates(List<List<IGDBGameCandidate>> candidatesByQuery) {
+        Map<Integer, IGDBGameCandidate> candidatesById = new LinkedHashMap<>();
+        for (List<IGDBGameCandidate> candidates : candidatesByQuery) {
+            if (candidates == null)
+                continue;
+
+            for (IGDBGameCandidate candidate : candidates) {
+                candidatesById.putIfAbsent(candidate.id(), candidate);
+            }
+        }
+
+        return List.copyOf(candidatesById.values());
+    }
+
     private static IGDBGameMatcher.MatchResult addWinnerCoverDetails(
             IGDBGameMatcher.MatchResult match,
             boolean includeSummary,
@@ -300,55 +425,45 @@ public final class APIConnector {
                 .addQueryParameter("limit", Integer.toString(limit))
                 .build();
 
-        JsonArray searchResults;
+        List<GameFields> searchResults;
         try {
-            searchResults = executeJson(new Request.Builder().url(searchUrl).build(), "Search for game candidates")
-                    .getAsJsonArray();
+            searchResults = executeStreaming(
+                    new Request.Builder().url(searchUrl).build(),
+                    "Search for game candidates",
+                    reader -> readGames(reader, requestedFields(searchUrl))
+            );
         } catch (APIException exception) {
             if (exception.isNotFound())
                 return List.of();
 
             throw exception;
-        } catch (IllegalStateException exception) {
-            throw invalidResponse("Search for game candidates", "Expected a JSON array", exception);
         }
 
         List<IGDBGameCandidate> gameResults = new ArrayList<>();
-        for (JsonElement resultElement : searchResults) {
-            if (!resultElement.isJsonObject())
-                continue;
-
-            JsonObject game = resultElement.getAsJsonObject();
-            Integer id = getOptionalInteger(game, "id");
-            String name = getOptionalString(game, "name");
-            if (name == null)
+        for (GameFields game : searchResults) {
+            if (game.name == null)
                 continue;
-            String slug = getOptionalString(game, "slug");
-            Long firstReleaseDate = getOptionalLong(game, "first_release_date");
-            if (id == null)
-                id = fallbackCandidateId(name, slug, firstReleaseDate);
-
-            String summary = includeSummary ? getOptionalString(game, "summary") : null;
-            Integer coverId = getOptionalInteger(game, "cover");
-            CoverUrls coverUrls = includeCover && coverId != null ? getCoverUrls(coverId) : null;
 
+            int id = game.id == null ? fallbackCandidateId(game.name, game.slug, game.firstReleaseDate) : game.id;
+            CoverUrls coverUrls = includeCover && game.coverId != null ? getCoverUrls(game.coverId) : null;
             gameResults.add(new IGDBGameCandidate(
                     id,
-                    name,
-                    slug,
-                    getAlternativeNames(game),
-                    getPlatforms(game),
-                    firstReleaseDate,
-                    getOptionalInteger(game, "category"),
-                    getOptionalInteger(game, "parent_game"),
-                    getOptionalInteger(game, "version_parent"),
-                    coverId,
-                    summary,
+                    game.name,
+                    game.slug,
+                    game.alternativeNames,
+                    game.platforms,
+                    game.firstReleaseDate,
+                    game.category,
+                    game.parentGame,
+                    game.versionParent,
+                    game.coverId,
+                    includeSummary ? game.summary : null,
                     coverUrls == null ? Utils.PLACEHOLDER_COVER_URL : coverUrls.thumbnailUrl(),
                     coverUrls == null ? Utils.PLACEHOLDER_COVER_URL : coverUrls.coverUrl()
             ));
         }
 
+        IGDBTitleIndex.getInstance().addAll(gameResults);
         return gameResults;
     }
 
@@ -389,34 +504,23 @@ public final class APIConnector {
         Objects.requireNonNull(platform, "platform");
         Objects.requireNonNull(externalId, "externalId");
 
-        return CompletableFuture.supplyAsync(() -> {
-            HttpUrl searchUrl = urlBuilder("games/external")
-                    .addQueryParameter("apiKey", GameDashboardApp.getAPIKey())
-                    .addQueryParameter("platform", platform.getApiName())
-                    .addQueryParameter("externalId", externalId)
-                    .build();
+        return EXTERNAL_ID_COALESCER.submit(new ExternalGameId(platform, externalId));
+    }
 
-            JsonObject game;
-            try {
-                game = executeJson(
-                        new Request.Builder().url(searchUrl).build(),
-                        "Get game ID from external ID"
-                ).getAsJsonObject();
-            } catch (APIException exception) {
-                if (exception.isNotFound())
-                    return null;
+    public static CompletableFuture<Map<String, Integer>> getGameIdsFromExternalIds(
+            ExternalPlatform platform,
+            Collection<String> externalIds
+    ) {
+        Objects.requireNonNull(platform, "platform");
+        Objects.requireNonNull(externalIds, "externalIds");
 
-                throw exception;
-            } catch (IllegalStateException exception) {
-                throw invalidResponse(
-                        "Get game ID from external ID",
-                        "Expected a JSON object",
-                        exception
-                );
-            }
+        Map<String, CompletableFuture<Integer>> futures = new LinkedHashMap<>();
+        for (String externalId : externalIds) {
+            if (externalId != null)
+                futures.computeIfAbsent(externalId, id -> getGameIdFromExternalId(platform, id));
+        }
 
-            return getRequiredInteger(game, "id", "Get game ID from external ID");
-        });
+        return collectResults(futures);
     }
 
     public static CompletableFuture<GameResult> getGameByID(
@@ -424,47 +528,308 @@ public final class APIConnector {
             boolean includeSummary,
             boolean includeCover
     ) {
-        return CompletableFuture.supplyAsync(() -> {
-            HttpUrl gameUrl = urlBuilder("games")
-                    .addQueryParameter("apiKey", GameDashboardApp.getAPIKey())
-                    .addQueryParameter("id", Integer.toString(id))
-                    .addQueryParameter("fields", gameFields(includeSummary, includeCover))
-                    .build();
+        return GAME_COALESCERS.computeIfAbsent(
+                gameFields(includeSummary, includeCover),
+                ignored -> new BatchCoalescer<>(
+                        MAX_BATCH_SIZE,
+                        BATCH_LINGER_MILLIS,
+                        ids -> resolveGames(ids, includeSummary, includeCover)
+                )
+        ).submit(id);
+    }
 
-            JsonObject game;
-            try {
-                game = executeJson(new Request.Builder().url(gameUrl).build(), "Get game by ID")
-                        .getAsJsonObject();
-            } catch (APIException exception) {
-                if (exception.isNotFound())
-                    return null;
+    public static CompletableFuture<Map<Integer, GameResult>> getGamesByIDs(
+            Collection<Integer> ids,
+            boolean includeSummary,
+            boolean includeCover
+    ) {
+        Objects.requireNonNull(ids, "ids");
 
-                throw exception;
-            } catch (IllegalStateException exception) {
-                throw invalidResponse("Get game by ID", "Expected a JSON object", exception);
+        Map<Integer, CompletableFuture<GameResult>> futures = new LinkedHashMap<>();
+        for (Integer id : ids) {
+            if (id != null)
+                futures.computeIfAbsent(id, gameId -> getGameByID(gameId, includeSummary, includeCover));
+        }
+
+        return collectResults(futures);
+    }
+
+    private static <K, V> CompletableFuture<Map<K, V>> collectResults(Map<K, CompletableFuture<V>> futures) {
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            Map<K, V> results = new LinkedHashMap<>();
+            futures.forEach((key, future) -> {
+                V value = future.join();
+                if (value != null)
+                    results.put(key, value);
+            });
+
+            return results;
+        });
+    }
+
+    private static Map<ExternalGameId, Integer> resolveExternalIds(List<ExternalGameId> externalGameIds) {
+        Map<ExternalPlatform, List<String>> idsByPlatform = new EnumMap<>(ExternalPlatform.class);
+        for (ExternalGameId externalGameId : externalGameIds) {
+            idsByPlatform.computeIfAbsent(externalGameId.platform(), ignored -> new ArrayList<>())
+                    .add(externalGameId.externalId());
+        }
+
+        Map<ExternalGameId, Integer> results = new HashMap<>();
+        idsByPlatform.forEach((platform, externalIds) -> {
+            Map<String, JsonObject> games = resolveBatch(
+                    externalIds,
+                    externalId -> externalGameUrl(platform, externalId),
+                    batch -> urlBuilder("games/external/batch")
+                            .addQueryParameter("apiKey", GameDashboardApp.getAPIKey())
+                            .addQueryParameter("platform", platform.getApiName())
+                            .addQueryParameter("externalIds", String.join(",", batch))
+                            .build(),
+                    game -> getOptionalString(game, "externalId"),
+                    "Get game ID from external ID"
+            );
+            games.forEach((externalId, game) -> {
+                Integer id = getOptionalInteger(game, "id");
+                if (id == null) {
+                    GameDashboardApp.LOGGER.warn("Get game ID from external ID returned no ID for {}", externalId);
+                } else {
+                    results.put(new ExternalGameId(platform, externalId), id);
+                }
+            });
+        });
+
+        return results;
+    }
+
+    private static Map<Integer, GameResult> resolveGames(
+            List<Integer> ids,
+            boolean includeSummary,
+            boolean includeCover
+    ) {
+        String fields = gameFields(includeSummary, includeCover);
+        Map<Integer, JsonObject> games = resolveBatch(
+                ids,
+                id -> gameUrl(id, fields),
+                batch -> urlBuilder("games/batch")
+                        .addQueryParameter("apiKey", GameDashboardApp.getAPIKey())
+                        .addQueryParameter("ids", joinIds(batch))
+                        .addQueryParameter("fields", fields)
+                        .build(),
+                game -> getOptionalInteger(game, "id"),
+                "Get game by ID"
+        );
+
+        Map<Integer, CoverUrls> coverUrls = Map.of();
+        if (includeCover) {
+            List<Integer> coverIds = games.values().stream()
+                    .map(game -> getOptionalInteger(game, "cover"))
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+            coverUrls = resolveCoverUrls(coverIds);
+        }
+
+        Map<Integer, GameResult> results = new HashMap<>();
+        for (Map.Entry<Integer, JsonObject> entry : games.entrySet()) {
+            int id = entry.getKey();
+            JsonObject game = entry.getValue();
+            String name = getOptionalString(game, "name");
+            if (name == null) {
+                GameDashboardApp.LOGGER.warn("Get game by ID returned game {} without a name", id);
+                continue;
             }
 
-            String name = getRequiredString(game, "name", "Get game by ID");
             String summary = includeSummary ? getOptionalString(game, "summary") : null;
-            if (!includeCover)
-                return new GameResult(id, name, null, null, summary);
+            if (!includeCover) {
+                results.put(id, new GameResult(id, name, null, null, summary));
+                continue;
+            }
 
             Integer coverId = getOptionalInteger(game, "cover");
-            CoverUrls coverUrls = coverId == null ? null : getCoverUrls(coverId);
-            return createGameResult(id, name, summary, coverUrls);
+            results.put(id, createGameResult(id, name, summary, coverId == null ? null : coverUrls.get(coverId)));
+        }
+
+        return results;
+    }
+
+    private static Map<Integer, CoverUrls> resolveCoverUrls(List<Integer> coverIds) {
+        if (coverIds.isEmpty())
+            return Map.of();
+
+        Map<Integer, JsonObject> covers = resolveBatch(
+                coverIds,
+                APIConnector::coverUrl,
+                batch -> urlBuilder("games/cover/batch")
+                        .addQueryParameter("apiKey", GameDashboardApp.getAPIKey())
+                        .addQueryParameter("fields", "id,game,url")
+                        .addQueryParameter("ids", joinIds(batch))
+                        .build(),
+                cover -> getOptionalInteger(cover, "id"),
+                "Get game cover"
+        );
+
+        Map<Integer, CoverUrls> results = new HashMap<>();
+        covers.forEach((coverId, cover) -> {
+            String thumbnailUrl = getOptionalString(cover, "url");
+            if (thumbnailUrl != null) {
+                results.put(coverId, new CoverUrls(
+                        getOptionalInteger(cover, "game"),
+                        thumbnailUrl,
+                        thumbnailUrl.replace("t_thumb", "t_cover_big")
+                ));
+            }
         });
+
+        return results;
     }
 
-    private static CoverUrls getCoverUrls(int coverId) {
-        HttpUrl coverUrl = urlBuilder("games/cover")
+    private static <K> Map<K, JsonObject> resolveBatch(
+            List<K> keys,
+            Function<K, HttpUrl> singleUrl,
+            Function<List<K>, HttpUrl> batchUrl,
+            Function<JsonObject, K> keyExtractor,
+            String operation
+    ) {
+        Map<K, JsonObject> results = new HashMap<>();
+        List<K> misses = new ArrayList<>();
+        for (K key : keys) {
+            Optional<APIResponseCache.Entry> cachedEntry = RESPONSE_CACHE
+                    .get(APIResponseCache.cacheKey(singleUrl.apply(key)))
+                    .filter(APIResponseCache.Entry::isFresh);
+            if (cachedEntry.isEmpty()) {
+                misses.add(key);
+            } else if (!cachedEntry.get().isNotFound()) {
+                JsonElement json = parseJson(cachedEntry.get().body(), operation);
+                if (json.isJsonObject())
+                    results.put(key, json.getAsJsonObject());
+            }
+        }
+
+        if (misses.size() > 1 && System.currentTimeMillis() >= BATCH_ENDPOINTS_RETRY_AT_MILLIS.get()) {
+            for (int start = 0; start < misses.size(); start += MAX_BATCH_SIZE) {
+                List<K> batch = misses.subList(start, Math.min(misses.size(), start + MAX_BATCH_SIZE));
+                if (!fetchBatch(batch, singleUrl, batchUrl.apply(batch), keyExtractor, operation, results))
+                    return fetchIndividually(misses.subList(start, misses.size()), singleUrl, operation, results);
+            }
+
+            return results;
+        }
+
+        return fetchIndividually(misses, singleUrl, operation, results);
+    }
+
+    private static <K> boolean fetchBatch(
+            List<K> batch,
+            Function<K, HttpUrl> singleUrl,
+            HttpUrl batchUrl,
+            Function<JsonObject, K> keyExtractor,
+            String operation,
+            Map<K, JsonObject> results
+    ) {
+        JsonArray response;
+        try {
+            response = executeJson(new Request.Builder().url(batchUrl).build(), operation + " (batch)", false)
+                    .getAsJsonArray();
+        } catch (APIException exception) {
+            if (isBatchUnsupported(exception)) {
+                BATCH_ENDPOINTS_RETRY_AT_MILLIS.set(Long.MAX_VALUE);
+                GameDashboardApp.LOGGER.info("Batch API endpoints are unsupported; falling back to individual requests");
+                return false;
+            }
+
+            // A missing route may only be a deployment in progress, so batching is tried again later.
+            if (!exception.isNotFound())
+                throw exception;
+
+            BATCH_ENDPOINTS_RETRY_AT_MILLIS.set(System.currentTimeMillis() + BATCH_RETRY_DELAY_MILLIS);
+            GameDashboardApp.LOGGER.info(
+                    "Batch API endpoints were not found; using individual requests for the next {} ms",
+                    BATCH_RETRY_DELAY_MILLIS
+            );
+            return false;
+        } catch (IllegalStateException exception) {
+            throw invalidResponse(operation + " (batch)", "Expected a JSON array", exception);
+        }
+
+        Set<K> remaining = new HashSet<>(batch);
+        for (JsonElement element : response) {
+            if (!element.isJsonObject())
+                continue;
+
+            JsonObject object = element.getAsJsonObject();
+            K key = keyExtractor.apply(object);
+            if (key == null || !remaining.remove(key))
+                continue;
+
+            results.put(key, object);
+            RESPONSE_CACHE.store(APIResponseCache.cacheKey(singleUrl.apply(key)), 200, object.toString());
+        }
+
+        for (K key : remaining) {
+            RESPONSE_CACHE.store(APIResponseCache.cacheKey(singleUrl.apply(key)), 404, "");
+        }
+
+        return true;
+    }
+
+    private static <K> Map<K, JsonObject> fetchIndividually(
+            List<K> keys,
+            Function<K, HttpUrl> singleUrl,
+            String operation,
+            Map<K, JsonObject> results
+    ) {
+        for (K key : keys) {
+            try {
+                results.put(key, executeJson(new Request.Builder().url(singleUrl.apply(key)).build(), operation)
+                        .getAsJsonObject());
+            } catch (APIException exception) {
+                if (!exception.isNotFound())
+                    throw exception;
+            } catch (IllegalStateException exception) {
+                throw invalidResponse(operation, "Expected a JSON object", exception);
+            }
+        }
+
+        return results;
+    }
+
+    private static boolean isBatchUnsupported(APIException exception) {
+        return exception.getStatusCode() == 405 || exception.getStatusCode() == 501;
+    }
+
+    private static HttpUrl externalGameUrl(ExternalPlatform platform, String externalId) {
+        return urlBuilder("games/external")
+                .addQueryParameter("apiKey", GameDashboardApp.getAPIKey())
+                .addQueryParameter("platform", platform.getApiName())
+                .addQueryParameter("externalId", externalId)
+                .build();
+    }
+
+    private static HttpUrl gameUrl(int id, String fields) {
+        return urlBuilder("games")
+                .addQueryParameter("apiKey", GameDashboardApp.getAPIKey())
+                .addQueryParameter("id", Integer.toString(id))
+                .addQueryParameter("fields", fields)
+                .build();
+    }
+
+    private static HttpUrl coverUrl(int coverId) {
+        return urlBuilder("games/cover")
                 .addQueryParameter("apiKey", GameDashboardApp.getAPIKey())
                 .addQueryParameter("fields", "game,url")
                 .addQueryParameter("id", Integer.toString(coverId))
                 .build();
+    }
+
+    private static String joinIds(List<Integer> ids) {
+        return ids.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
 
+    private static CoverUrls getCoverUrls(int coverId) {
         JsonObject cover;
         try {
-            cover = executeJson(new Request.Builder().url(coverUrl).build(), "Get game cover")
+            cover = executeJson(new Request.Builder().url(coverUrl(coverId)).build(), "Get game cover")
                     .getAsJsonObject();
         } catch (APIException exception) {
             if (exception.isNotFound())
@@ -484,11 +849,74 @@ public final class APIConnector {
     }
 
     private static JsonElement executeJson(Request request, String operation) {
+        return executeJson(request, operation, true);
+    }
+
+    private static JsonElement executeJson(Request request, String operation, boolean cacheable) {
+        return parseJson(executeForBody(request, operation, cacheable), operation);
+    }
+
+    private static <T> T executeStreaming(Request request, String operation, JsonDecoder<T> decoder) {
+        String responseText = executeForBody(request, operation, true);
+        try (JsonReader reader = new JsonReader(new StringReader(responseText))) {
+            reader.setStrictness(Strictness.LENIENT);
+            return decoder.decode(reader);
+        } catch (IOException | IllegalStateException | NumberFormatException exception) {
+            throw invalidResponse(operation, "Response body does not match the expected structure", exception);
+        }
+    }
+
+    private static String executeForBody(Request request, String operation, boolean cacheable) {
+        String cacheKey = cacheable ? APIResponseCache.cacheKey(request.url()) : null;
+        APIResponseCache.Entry cachedEntry = cacheable ? RESPONSE_CACHE.get(cacheKey).orElse(null) : null;
+        if (cachedEntry != null && cachedEntry.isFresh())
+            return cachedResponse(cachedEntry, operation);
+
+        String requestKey = request.url().toString();
+        CompletableFuture<String> flight = new CompletableFuture<>();
+        CompletableFuture<String> existingFlight = IN_FLIGHT_REQUESTS.putIfAbsent(requestKey, flight);
+        if (existingFlight != null)
+            return awaitInFlightRequest(existingFlight, operation);
+
+        try {
+            String responseText = fetchBody(request, operation, cacheKey, cachedEntry);
+            flight.complete(responseText);
+            return responseText;
+        } catch (RuntimeException exception) {
+            flight.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            IN_FLIGHT_REQUESTS.remove(requestKey, flight);
+        }
+    }
+
+    private static String awaitInFlightRequest(CompletableFuture<String> flight, String operation) {
+        try {
+            return flight.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause)
+                throw cause;
+
+            throw new APIException(503, "service_unavailable", operation + " failed", null, exception.getCause());
+        }
+    }
+
+    private static String fetchBody(
+            Request request,
+            String operation,
+            String cacheKey,
+            APIResponseCache.Entry cachedEntry
+    ) {
+        boolean cacheable = cacheKey != null;
+        Request networkRequest = cachedEntry != null && cachedEntry.canRevalidate()
+                ? RESPONSE_CACHE.revalidationRequest(request, cachedEntry)
+                : request;
         for (int attempt = 0; attempt <= MAX_RATE_LIMIT_RETRIES; attempt++) {
-            waitForRateLimit(operation);
-            waitForRequestSlot(operation);
+            try (RateLimiter.Permit ignored = acquireRequestPermit(operation);
+                 Response response = HTTP_CLIENT.newCall(networkRequest).execute()) {
+                if (response.code() == 304 && cachedEntry != null)
+                    return cachedResponse(RESPONSE_CACHE.refresh(cacheKey, cachedEntry, response), operation);
 
-            try (Response response = HTTP_CLIENT.newCall(request).execute()) {
                 ResponseBody responseBody = response.body();
                 String responseText = responseBody == null ? "" : responseBody.string();
 
@@ -501,7 +929,7 @@ public final class APIConnector {
                     );
                     if (exception.isRateLimited() && attempt < MAX_RATE_LIMIT_RETRIES) {
                         long delayMillis = getRateLimitDelayMillis(response, attempt);
-                        extendRateLimit(delayMillis);
+                        REQUEST_LIMITER.pauseFor(delayMillis);
                         GameDashboardApp.LOGGER.info(
                                 "{} was rate limited; retrying in {} ms ({}/{})",
                                 operation,
@@ -512,22 +940,23 @@ public final class APIConnector {
                         continue;
                     }
 
+                    if (cacheable && exception.isNotFound())
+                        RESPONSE_CACHE.store(cacheKey, response, responseText);
+
                     throw exception;
                 }
 
                 if (responseText.isBlank())
                     throw invalidResponse(operation, "Response body is empty", null);
 
-                try {
-                    JsonElement json = GSON.fromJson(responseText, JsonElement.class);
-                    if (json == null || json.isJsonNull())
-                        throw invalidResponse(operation, "Response body contains null JSON", null);
-
-                    return json;
-                } catch (JsonParseException exception) {
-                    throw invalidResponse(operation, "Response body contains invalid JSON", exception);
-                }
+                validateJson(responseText, operation);
+                if (cacheable)
+                    RESPONSE_CACHE.store(cacheKey, response, responseText);
+                return responseText;
             } catch (SocketTimeoutException exception) {
+                if (cachedEntry != null)
+                    return staleResponse(cachedEntry, operation, exception);
+
                 throw new APIException(
                         504,
                         "timeout",
@@ -536,6 +965,9 @@ public final class APIConnector {
                         exception
                 );
             } catch (IOException exception) {
+                if (cachedEntry != null)
+                    return staleResponse(cachedEntry, operation, exception);
+
                 throw new APIException(
                         503,
                         "service_unavailable",
@@ -549,56 +981,56 @@ public final class APIConnector {
         throw new IllegalStateException("Rate limit retry loop completed unexpectedly");
     }
 
-    private static void waitForRequestSlot(String operation) {
-        synchronized (REQUEST_THROTTLE_LOCK) {
-            while (true) {
-                long now = System.currentTimeMillis();
-                long delayMillis = nextRequestTimeMillis - now;
-                if (delayMillis <= 0) {
-                    nextRequestTimeMillis = now + MIN_REQUEST_INTERVAL_MILLIS;
-                    return;
-                }
+    private static JsonElement parseJson(String responseText, String operation) {
+        try {
+            JsonElement json = GSON.fromJson(responseText, JsonElement.class);
+            if (json == null || json.isJsonNull())
+                throw invalidResponse(operation, "Response body contains null JSON", null);
 
-                try {
-                    REQUEST_THROTTLE_LOCK.wait(delayMillis);
-                } catch (InterruptedException exception) {
-                    Thread.currentThread().interrupt();
-                    throw new APIException(
-                            503,
-                            "interrupted",
-                            operation + " was interrupted while waiting for the API request buffer",
-                            null,
-                            exception
-                    );
-                }
-            }
+            return json;
+        } catch (JsonParseException exception) {
+            throw invalidResponse(operation, "Response body contains invalid JSON", exception);
         }
     }
 
-    private static void waitForRateLimit(String operation) {
-        while (true) {
-            long delayMillis = RATE_LIMITED_UNTIL.get() - System.currentTimeMillis();
-            if (delayMillis <= 0)
-                return;
+    private static void validateJson(String responseText, String operation) {
+        // Walks the document without building a tree so that invalid bodies never reach the response cache.
+        try (JsonReader reader = new JsonReader(new StringReader(responseText))) {
+            reader.setStrictness(Strictness.LENIENT);
+            if (reader.peek() == JsonToken.NULL)
+                throw invalidResponse(operation, "Response body contains null JSON", null);
 
-            try {
-                Thread.sleep(delayMillis);
-            } catch (InterruptedException exception) {
-                Thread.currentThread().interrupt();
-                throw new APIException(
-                        503,
-                        "interrupted",
-                        operation + " was interrupted while waiting for the API rate limit",
-                        null,
-                        exception
-                );
-            }
+            reader.skipValue();
+        } catch (IOException | JsonParseException exception) {
+            throw invalidResponse(operation, "Response body contains invalid JSON", exception);
         }
     }
 
-    private static void extendRateLimit(long delayMillis) {
-        long limitedUntil = System.currentTimeMillis() + delayMillis;
-        RATE_LIMITED_UNTIL.accumulateAndGet(limitedUntil, Math::max);
+    private static String cachedResponse(APIResponseCache.Entry entry, String operation) {
+        if (entry.isNotFound())
+            throw new APIException(404, "not_found", operation + " returned no cached result", null);
+
+        return entry.body();
+    }
+
+    private static String staleResponse(APIResponseCache.Entry entry, String operation, IOException exception) {
+        GameDashboardApp.LOGGER.debug("{} could not reach the API; using stale cached response", operation, exception);
+        return cachedResponse(entry, operation);
+    }
+
+    private static RateLimiter.Permit acquireRequestPermit(String operation) {
+        try {
+            return REQUEST_LIMITER.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new APIException(
+                    503,
+                    "interrupted",
+                    operation + " was interrupted while waiting for the API rate limit",
+                    null,
+                    exception
+            );
+        }
     }
 
     private static long getRateLimitDelayMillis(Response response, int attempt) {
@@ -725,42 +1157,167 @@ public final class APIConnector {
         return String.join(",", fields);
     }
 
-    private static List<String> getAlternativeNames(JsonObject game) {
-        JsonArray alternatives = getOptionalArray(game, "alternative_names");
-        if (alternatives == null)
+    private static Set<String> requestedFields(HttpUrl url) {
+        String fields = url.queryParameter("fields");
+        if (fields == null || fields.isBlank())
+            return Set.of();
+
+        Set<String> topLevelFields = new HashSet<>();
+        for (String field : fields.split(",")) {
+            int separator = field.indexOf('.');
+            topLevelFields.add((separator < 0 ? field : field.substring(0, separator)).trim());
+        }
+
+        return topLevelFields;
+    }
+
+    private static List<GameFields> readGames(JsonReader reader, Set<String> requestedFields) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_ARRAY)
+            throw new IllegalStateException("Expected a JSON array");
+
+        List<GameFields> games = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                games.add(readGame(reader, requestedFields));
+            } else {
+                reader.skipValue();
+            }
+        }
+
+        reader.endArray();
+        return games;
+    }
+
+    private static GameFields readGame(JsonReader reader, Set<String> requestedFields) throws IOException {
+        GameFields game = new GameFields();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String property = reader.nextName();
+            if (!requestedFields.contains(property)) {
+                reader.skipValue();
+                continue;
+            }
+
+            switch (property) {
+                case "id" -> game.id = readOptionalInteger(reader);
+                case "name" -> game.name = readOptionalString(reader);
+                case "slug" -> game.slug = readOptionalString(reader);
+                case "summary" -> game.summary = readOptionalString(reader);
+                case "alternative_names" -> game.alternativeNames = readAlternativeNames(reader);
+                case "platforms" -> game.platforms = readPlatforms(reader);
+                case "first_release_date" -> game.firstReleaseDate = readOptionalLong(reader);
+                case "category" -> game.category = readOptionalInteger(reader);
+                case "parent_game" -> game.parentGame = readOptionalInteger(reader);
+                case "version_parent" -> game.versionParent = readOptionalInteger(reader);
+                case "cover" -> game.coverId = readOptionalInteger(reader);
+                default -> reader.skipValue();
+            }
+        }
+
+        reader.endObject();
+        return game;
+    }
+
+    private static List<String> readAlternativeNames(JsonReader reader) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            reader.skipValue();
             return List.of();
+        }
 
         List<String> names = new ArrayList<>();
-        for (JsonElement alternative : alternatives) {
-            if (!alternative.isJsonObject())
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                reader.skipValue();
                 continue;
+            }
 
-            String name = getOptionalString(alternative.getAsJsonObject(), "name");
+            String name = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("name")) {
+                    name = readOptionalString(reader);
+                } else {
+                    reader.skipValue();
+                }
+            }
+
+            reader.endObject();
             if (name != null && !name.isBlank())
                 names.add(name);
         }
 
+        reader.endArray();
         return List.copyOf(names);
     }
 
-    private static List<IGDBPlatform> getPlatforms(JsonObject game) {
-        JsonArray platforms = getOptionalArray(game, "platforms");
-        if (platforms == null)
+    private static List<IGDBPlatform> readPlatforms(JsonReader reader) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            reader.skipValue();
             return List.of();
+        }
 
-        List<IGDBPlatform> result = new ArrayList<>();
-        for (JsonElement platformElement : platforms) {
-            if (!platformElement.isJsonObject())
+        List<IGDBPlatform> platforms = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                reader.skipValue();
                 continue;
+            }
 
-            JsonObject platform = platformElement.getAsJsonObject();
-            Integer id = getOptionalInteger(platform, "id");
-            String name = getOptionalString(platform, "name");
+            Integer id = null;
+            String name = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id" -> id = readOptionalInteger(reader);
+                    case "name" -> name = readOptionalString(reader);
+                    default -> reader.skipValue();
+                }
+            }
+
+            reader.endObject();
             if (id != null && name != null)
-                result.add(new IGDBPlatform(id, name));
+                platforms.add(new IGDBPlatform(id, name));
+        }
+
+        reader.endArray();
+        return List.copyOf(platforms);
+    }
+
+    private static String readOptionalString(JsonReader reader) throws IOException {
+        return switch (reader.peek()) {
+            case STRING, NUMBER -> reader.nextString();
+            case BOOLEAN -> Boolean.toString(reader.nextBoolean());
+            case NULL -> {
+                reader.nextNull();
+                yield null;
+            }
+            default -> {
+                reader.skipValue();
+                yield null;
+            }
+        };
+    }
+
+    private static Integer readOptionalInteger(JsonReader reader) throws IOException {
+        Long value = readOptionalLong(reader);
+        return value == null || value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? null : value.intValue();
+    }
+
+    private static Long readOptionalLong(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token != JsonToken.NUMBER && token != JsonToken.STRING) {
+            readOptionalString(reader);
+            return null;
         }
 
-        return List.copyOf(result);
+        try {
+            return Long.parseLong(reader.nextString().trim());
+        } catch (NumberFormatException exception) {
+            return null;
+        }
     }
 
     private static void logFuzzyMatchDebug(
@@ -809,13 +1366,6 @@ public final class APIConnector {
         return value;
     }
 
-    private static int getRequiredInteger(JsonObject object, String property, String operation) {
-        Integer value = getOptionalInteger(object, property);
-        if (value == null)
-            throw invalidResponse(operation, "Missing integer property '" + property + "'", null);
-        return value;
-    }
-
     private static String getOptionalString(JsonObject object, String property) {
         return getOptionalString(object, property, null);
     }
@@ -844,26 +1394,6 @@ public final class APIConnector {
         }
     }
 
-    private static Long getOptionalLong(JsonObject object, String property) {
-        JsonElement value = object.get(property);
-        if (value == null || value.isJsonNull() || !value.isJsonPrimitive())
-            return null;
-
-        try {
-            return value.getAsLong();
-        } catch (NumberFormatException | UnsupportedOperationException | IllegalStateException exception) {
-            return null;
-        }
-    }
-
-    private static JsonArray getOptionalArray(JsonObject object, String property) {
-        JsonElement value = object.get(property);
-        if (value == null || value.isJsonNull() || !value.isJsonArray())
-            return null;
-
-        return value.getAsJsonArray();
-    }
-
     private static String defaultErrorCode(int statusCode) {
         return switch (statusCode) {
             case 400 -> "invalid_request";
@@ -879,6 +1409,31 @@ public final class APIConnector {
     private record CoverUrls(Integer igdbGameId, String thumbnailUrl, String coverUrl) {
     }
 
+    private record ExternalGameId(ExternalPlatform platform, String externalId) {
+    }
+
+    private record QueryCandidates(int index, List<IGDBGameCandidate> candidates) {
+    }
+
+    private static final class GameFields {
+        private Integer id;
+        private String name;
+        private String slug;
+        private String summary;
+        private List<String> alternativeNames = List.of();
+        private List<IGDBPlatform> platforms = List.of();
+        private Long firstReleaseDate;
+        private Integer category;
+        private Integer parentGame;
+        private Integer versionParent;
+        private Integer coverId;
+    }
+
+    @FunctionalInterface
+    private interface JsonDecoder<T> {
+        T decode(JsonReader reader) throws IOException;
+    }
+
     @Getter
     @AllArgsConstructor
     public enum ExternalPlatform {
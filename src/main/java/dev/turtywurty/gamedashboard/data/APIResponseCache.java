@@ -0,0 +1,253 @@
+package dev.turtywurty.gamedashboard.data;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import dev.turtywurty.gamedashboard.GameDashboardApp;
+import dev.turtywurty.gamedashboard.data.store.JsonFileStore;
+import dev.turtywurty.gamedashboard.util.HashedPaths;
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+final class APIResponseCache {
+    private static final String DIRECTORY_NAME = "api-cache";
+    private static final long DEFAULT_TTL_MILLIS = 14L * 24 * 60 * 60 * 1000;
+    private static final long NOT_FOUND_TTL_MILLIS = 24L * 60 * 60 * 1000;
+    private static final long MAX_STALE_MILLIS = 90L * 24 * 60 * 60 * 1000;
+    private static final Pattern MAX_AGE = Pattern.compile("(?:^|[,\\s])max-age\\s*=\\s*(\\d+)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_MEMORY_ENTRIES = Integer.getInteger("gamedashboard.api.cacheMemoryEntries", 2_048);
+    private static final Gson GSON = new GsonBuilder()
+            .disableHtmlEscaping()
+            .create();
+
+    private final Path cacheDirectory;
+    private final ReentrantLock lock = new ReentrantLock();
+    // Recently used entries stay in memory; the rest are read back from disk when next asked for.
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_MEMORY_ENTRIES;
+        }
+    };
+
+    APIResponseCache(Path appDataPath) {
+        this.cacheDirectory = Objects.requireNonNull(appDataPath, "appDataPath").resolve(DIRECTORY_NAME);
+    }
+
+    static String cacheKey(HttpUrl url) {
+        List<String> parameters = new ArrayList<>();
+        for (String name : url.queryParameterNames()) {
+            if (name.equals("apiKey"))
+                continue;
+
+            for (String value : url.queryParameterValues(name)) {
+                parameters.add(name + "=" + normalizeParameter(name, value));
+            }
+        }
+
+        parameters.sort(null);
+        return String.join("/", url.pathSegments()) + "?" + String.join("&", parameters);
+    }
+
+    private static String normalizeParameter(String name, String value) {
+        if (value == null)
+            return "";
+
+        return name.equals("query")
+                ? WHITESPACE.matcher(value).replaceAll(" ").trim().toLowerCase(Locale.ROOT)
+                : value.trim();
+    }
+
+    Optional<Entry> get(String key) {
+        Entry entry = getInMemory(key);
+        if (entry == null) {
+            entry = read(key);
+            if (entry == null)
+                return Optional.empty();
+
+            putInMemory(entry, false);
+        }
+
+        if (System.currentTimeMillis() - entry.expiresAtMillis() > MAX_STALE_MILLIS) {
+            remove(key);
+            return Optional.empty();
+        }
+
+        return Optional.of(entry);
+    }
+
+    Request revalidationRequest(Request request, Entry entry) {
+        Request.Builder builder = request.newBuilder();
+        if (entry.etag() != null)
+            builder.header("If-None-Match", entry.etag());
+        if (entry.lastModified() != null)
+            builder.header("If-Modified-Since", entry.lastModified());
+        return builder.build();
+    }
+
+    Entry refresh(String key, Entry entry, Response response) {
+        Entry refreshed = new Entry(
+                key,
+                entry.statusCode(),
+                entry.body(),
+                firstNonNull(response.header("ETag"), entry.etag()),
+                firstNonNull(response.header("Last-Modified"), entry.lastModified()),
+                System.currentTimeMillis() + ttlMillis(response, entry.statusCode())
+        );
+        put(refreshed);
+        return refreshed;
+    }
+
+    void store(String key, Response response, String body) {
+        if (isNoStore(response))
+            return;
+
+        put(new Entry(
+                key,
+                response.code(),
+                body,
+                response.header("ETag"),
+                response.header("Last-Modified"),
+                System.currentTimeMillis() + ttlMillis(response, response.code())
+        ));
+    }
+
+    void store(String key, int statusCode, String body) {
+        put(new Entry(
+                key,
+                statusCode,
+                body,
+                null,
+                null,
+                System.currentTimeMillis() + (statusCode == 404 ? NOT_FOUND_TTL_MILLIS : DEFAULT_TTL_MILLIS)
+        ));
+    }
+
+    private void put(Entry entry) {
+        putInMemory(entry, true);
+        try {
+            JsonFileStore.writeAtomically(entryPath(entry.key()), GSON.toJson(entry));
+        } catch (IOException exception) {
+            GameDashboardApp.LOGGER.debug("Failed to persist API cache entry {}", entry.key(), exception);
+        }
+    }
+
+    private void remove(String key) {
+        this.lock.lock();
+        try {
+            this.entries.remove(key);
+        } finally {
+            this.lock.unlock();
+        }
+
+        try {
+            Files.deleteIfExists(entryPath(key));
+        } catch (IOException exception) {
+            GameDashboardApp.LOGGER.debug("Failed to delete API cache entry {}", key, exception);
+        }
+    }
+
+    private Entry getInMemory(String key) {
+        this.lock.lock();
+        try {
+            return this.entries.get(key);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // An entry read from disk does not replace one stored while it was being read.
+    private void putInMemory(Entry entry, boolean replace) {
+        this.lock.lock();
+        try {
+            if (replace) {
+                this.entries.put(entry.key(), entry);
+            } else {
+                this.entries.putIfAbsent(entry.key(), entry);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private Entry read(String key) {
+        Path path = entryPath(key);
+        if (!Files.isRegularFile(path))
+            return null;
+
+        try {
+            Entry entry = GSON.fromJson(Files.readString(path), Entry.class);
+            // Two keys can only share a file on a hash collision, in which case the entry belongs to the other key.
+            return entry != null && key.equals(entry.key()) && entry.body() != null ? entry : null;
+        } catch (IOException | JsonParseException exception) {
+            GameDashboardApp.LOGGER.debug("Failed to read API cache entry {}", key, exception);
+            return null;
+        }
+    }
+
+    private Path entryPath(String key) {
+        return HashedPaths.resolve(this.cacheDirectory, HashedPaths.sha256(key), 1, ".json");
+    }
+
+    private static long ttlMillis(Response response, int statusCode) {
+        String cacheControl = response.header("Cache-Control");
+        if (cacheControl != null) {
+            Matcher matcher = MAX_AGE.matcher(cacheControl.toLowerCase(Locale.ROOT));
+            if (matcher.find()) {
+                try {
+                    return Long.parseLong(matcher.group(1)) * 1_000;
+                } catch (NumberFormatException ignored) {
+                    // Fall back to the default TTL for malformed max-age directives.
+                }
+            }
+        }
+
+        return statusCode == 404 ? NOT_FOUND_TTL_MILLIS : DEFAULT_TTL_MILLIS;
+    }
+
+    private static boolean isNoStore(Response response) {
+        String cacheControl = response.header("Cache-Control");
+        return cacheControl != null && cacheControl.toLowerCase(Locale.ROOT).contains("no-store");
+    }
+
+    private static <T> T firstNonNull(T first, T fallback) {
+        return first == null ? fallback : first;
+    }
+
+    record Entry(
+            String key,
+            int statusCode,
+            String body,
+            String etag,
+            String lastModified,
+            long expiresAtMillis
+    ) {
+        boolean isFresh() {
+            return System.currentTimeMillis() < this.expiresAtMillis;
+        }
+
+        boolean canRevalidate() {
+            return this.etag != null || this.lastModified != null;
+        }
+
+        boolean isNotFound() {
+            return this.statusCode == 404;
+        }
+    }
+}
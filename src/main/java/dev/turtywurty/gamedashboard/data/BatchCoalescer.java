@@ -0,0 +1,81 @@
+package dev.turtywurty.gamedashboard.data;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+final class BatchCoalescer<K, V> {
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final int maxBatchSize;
+    private final Executor delayedExecutor;
+    private final Function<List<K>, Map<K, V>> batchLoader;
+    private final Object lock = new Object();
+
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+    private boolean flushScheduled;
+
+    BatchCoalescer(int maxBatchSize, long lingerMillis, Function<List<K>, Map<K, V>> batchLoader) {
+        if (maxBatchSize < 1)
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+
+        this.maxBatchSize = maxBatchSize;
+        this.delayedExecutor = CompletableFuture.delayedExecutor(lingerMillis, TimeUnit.MILLISECONDS, EXECUTOR);
+        this.batchLoader = Objects.requireNonNull(batchLoader, "batchLoader");
+    }
+
+    CompletableFuture<V> submit(K key) {
+        Objects.requireNonNull(key, "key");
+
+        CompletableFuture<V> future;
+        Map<K, CompletableFuture<V>> fullBatch = null;
+        synchronized (this.lock) {
+            future = this.pending.computeIfAbsent(key, ignored -> new CompletableFuture<>());
+            if (this.pending.size() >= this.maxBatchSize) {
+                fullBatch = this.pending;
+                this.pending = new LinkedHashMap<>();
+            } else if (!this.flushScheduled) {
+                this.flushScheduled = true;
+                this.delayedExecutor.execute(this::flushPending);
+            }
+        }
+
+        if (fullBatch != null) {
+            Map<K, CompletableFuture<V>> batch = fullBatch;
+            EXECUTOR.execute(() -> load(batch));
+        }
+
+        return future;
+    }
+
+    private void flushPending() {
+        Map<K, CompletableFuture<V>> batch;
+        synchronized (this.lock) {
+            this.flushScheduled = false;
+            if (this.pending.isEmpty())
+                return;
+
+            batch = this.pending;
+            this.pending = new LinkedHashMap<>();
+        }
+
+        load(batch);
+    }
+
+    private void load(Map<K, CompletableFuture<V>> batch) {
+        try {
+            Map<K, V> results = this.batchLoader.apply(List.copyOf(batch.keySet()));
+            batch.forEach((key, future) -> future.complete(results.get(key)));
+        } catch (Throwable throwable) {
+            // Errors are passed on too; otherwise every caller joining this batch would wait forever.
+            batch.values().forEach(future -> future.completeExceptionally(throwable));
+        }
+    }
+}
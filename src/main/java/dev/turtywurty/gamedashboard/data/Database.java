@@ -9,7 +9,11 @@ import dev.turtywurty.gamedashboard.data.game.LaunchTarget;
 import dev.turtywurty.gamedashboard.data.game.LaunchTargetJsonAdapter;
 import dev.turtywurty.gamedashboard.data.model.DashboardConfig;
 import dev.turtywurty.gamedashboard.data.store.ConfigStore;
+import dev.turtywurty.gamedashboard.data.store.GameChanges;
+import dev.turtywurty.gamedashboard.data.store.GameRowTracker;
 import dev.turtywurty.gamedashboard.data.store.GameStore;
+import dev.turtywurty.gamedashboard.data.store.SteamManifestStore;
+import dev.turtywurty.gamedashboard.data.store.WriteBehindQueue;
 import dev.turtywurty.gamedashboard.util.ProgressMonitor;
 import dev.turtywurty.gamedashboard.util.Utils;
 import javafx.beans.property.ReadOnlyStringProperty;
@@ -19,12 +23,24 @@ import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 public final class Database {
     private static final Gson GSON = new GsonBuilder()
@@ -33,14 +49,18 @@ public final class Database {
             .setPrettyPrinting()
             .disableHtmlEscaping()
             .create();
+    private static final long SAVE_DELAY_MILLIS = 1_000;
     private static final Database INSTANCE = new Database();
 
     private final ConfigStore configStore;
     private final GameStore gameStore;
+    private final GameRowTracker gameRows;
     private final SteamHandler steamHandler;
+    private final WriteBehindQueue<PersistedState> persistence;
 
     private final ObservableList<Game> games = FXCollections.observableArrayList();
     private final ObservableList<Game> readOnlyGames = FXCollections.unmodifiableObservableList(this.games);
+    private final GameIndex gameIndex = new GameIndex();
     private final ObservableList<String> loadingGames = FXCollections.observableArrayList();
     private final ObservableList<String> readOnlyLoadingGames =
             FXCollections.unmodifiableObservableList(this.loadingGames);
@@ -49,6 +69,7 @@ public final class Database {
             FXCollections.unmodifiableObservableList(this.epicGamesInstallLocations);
     private final ReadOnlyStringWrapper steamExecutable = new ReadOnlyStringWrapper("");
     private final ReadOnlyStringWrapper steamLibraryFolders = new ReadOnlyStringWrapper("");
+    private final Map<String, CopyOnWriteArrayList<String>> librarySources = new ConcurrentHashMap<>();
 
     private boolean loadingConfig;
     @Getter
@@ -57,12 +78,20 @@ public final class Database {
     private Database() {
         Path appDataPath = getAppDataPath();
         this.configStore = new ConfigStore(appDataPath, GSON);
-        this.gameStore = new GameStore(appDataPath, GSON);
-        this.steamHandler = new SteamHandler();
+        this.gameStore = GameStore.open(appDataPath, GSON);
+        this.gameRows = new GameRowTracker(this.gameStore);
+        this.steamHandler = new SteamHandler(new SteamManifestStore(appDataPath, GSON));
+        this.persistence = new WriteBehindQueue<>(
+                "database-writer",
+                SAVE_DELAY_MILLIS,
+                this::write,
+                (previous, latest) -> new PersistedState(latest.config(), previous.games().mergeWith(latest.games()))
+        );
+        this.games.addListener(this.gameIndex);
 
         load();
 
-        this.games.addListener((ListChangeListener<Game>) change -> save());
+        this.games.addListener((ListChangeListener<Game>) this::onGamesChanged);
         this.epicGamesInstallLocations.addListener((ListChangeListener<String>) change -> save());
     }
 
@@ -76,7 +105,7 @@ public final class Database {
 
     public void load() {
         DashboardConfig config = this.configStore.load();
-        List<Game> games = this.gameStore.load();
+        Map<String, Game> storedGames = this.gameStore.load();
         String executable = config.steamExecutable();
         String libraryFolders = config.steamLibraryFolders();
 
@@ -87,10 +116,14 @@ public final class Database {
 
         this.loadingConfig = true;
         try {
-            this.games.setAll(games);
+            this.gameRows.reset(storedGames);
+            this.games.setAll(storedGames.values());
             this.steamExecutable.set(executable);
             this.steamLibraryFolders.set(libraryFolders);
             this.epicGamesInstallLocations.setAll(config.epicInstallLocations());
+            this.librarySources.clear();
+            config.librarySources().forEach((gameType, sources) ->
+                    this.librarySources.put(gameType, new CopyOnWriteArrayList<>(sources)));
             this.onboardingComplete = config.onboardingComplete();
         } finally {
             this.loadingConfig = false;
@@ -105,13 +138,51 @@ public final class Database {
         if (this.loadingConfig)
             return;
 
-        this.configStore.save(new DashboardConfig(
-                getSteamExecutable(),
-                getSteamLibraryFolders(),
-                new ArrayList<>(this.epicGamesInstallLocations),
-                this.onboardingComplete
+        submit(new GameChanges());
+    }
+
+    // Only the games the change added, replaced or removed are handed to the store.
+    private void onGamesChanged(ListChangeListener.Change<? extends Game> change) {
+        if (this.loadingConfig)
+            return;
+
+        GameChanges changes = this.gameRows.onChanged(change);
+        if (!changes.isEmpty())
+            submit(changes);
+    }
+
+    private void submit(GameChanges changes) {
+        this.persistence.submit(new PersistedState(
+                new DashboardConfig(
+                        getSteamExecutable(),
+                        getSteamLibraryFolders(),
+                        new ArrayList<>(this.epicGamesInstallLocations),
+                        copyLibrarySources(),
+                        this.onboardingComplete
+                ),
+                changes
         ));
-        this.gameStore.save(new ArrayList<>(this.games));
+    }
+
+    private Map<String, List<String>> copyLibrarySources() {
+        Map<String, List<String>> sources = new LinkedHashMap<>();
+        this.librarySources.forEach((gameType, locations) -> sources.put(gameType, List.copyOf(locations)));
+        return sources;
+    }
+
+    public void flush() {
+        this.persistence.flush();
+    }
+
+    public void shutdown() {
+        this.persistence.close();
+        this.gameStore.close();
+    }
+
+    private void write(PersistedState state) {
+        this.configStore.save(state.config());
+        if (!state.games().isEmpty())
+            this.gameStore.save(state.games());
     }
 
     public ObservableList<Game> getGames() {
@@ -150,14 +221,139 @@ public final class Database {
         if (conflictingGame.isPresent() && conflictingGame.get() != matchingGame.get())
             return false;
 
-        this.games.set(this.games.indexOf(matchingGame.get()), replacement);
+        // Rescans mostly rediscover unchanged games, which would otherwise cost a list change and a save each.
+        if (matchingGame.get().equals(replacement))
+            return true;
+
+        this.games.set(this.gameIndex.positionOf(matchingGame.get(), this.games), replacement);
         return true;
     }
 
+    // Adds or replaces a whole batch as one list change, so views rebuild and the library is saved once per batch.
+    public void mergeGames(Collection<? extends Game> discoveredGames) {
+        if (discoveredGames == null || discoveredGames.isEmpty())
+            return;
+
+        List<Game> addedGames = new ArrayList<>();
+        Map<Game, Integer> addedPositions = new IdentityHashMap<>();
+        GameIndex addedIndex = new GameIndex();
+        Map<Game, Game> replacements = new IdentityHashMap<>();
+        for (Game game : discoveredGames) {
+            if (game == null)
+                continue;
+
+            Optional<Game> existingGame = findMatchingGame(game);
+            if (existingGame.isPresent()) {
+                if (existingGame.get().equals(game)) {
+                    replacements.remove(existingGame.get());
+                } else {
+                    replacements.put(existingGame.get(), game);
+                }
+
+                continue;
+            }
+
+            // A later discovery of the same game in the batch wins, as it would with addGame followed by updateGame.
+            Optional<Game> pendingGame = addedIndex.findMatching(game);
+            if (pendingGame.isPresent()) {
+                int position = addedPositions.remove(pendingGame.get());
+                addedIndex.remove(pendingGame.get());
+                addedGames.set(position, game);
+                addedPositions.put(game, position);
+            } else {
+                addedPositions.put(game, addedGames.size());
+                addedGames.add(game);
+            }
+
+            addedIndex.add(game);
+        }
+
+        if (replacements.isEmpty()) {
+            if (!addedGames.isEmpty()) {
+                this.games.addAll(addedGames);
+            }
+
+            return;
+        }
+
+        List<Game> mergedGames = new ArrayList<>(this.games.size() + addedGames.size());
+        for (Game game : this.games) {
+            mergedGames.add(replacements.getOrDefault(game, game));
+        }
+
+        mergedGames.addAll(addedGames);
+        this.games.setAll(mergedGames);
+    }
+
+    // Drops games of the given class whose key is no longer installed and returns the keys that are still present.
+    // Only games the scan could have seen are dropped; games read from a location that was not scanned are kept.
+    public <G extends Game, K> Set<K> retainInstalledGames(
+            Class<G> gameClass,
+            Predicate<G> scanned,
+            Function<G, K> key,
+            Set<K> installedKeys
+    ) {
+        return Utils.callOnFxThread(() -> {
+            Set<K> knownKeys = new HashSet<>();
+            this.games.removeIf(game -> {
+                if (!gameClass.isInstance(game))
+                    return false;
+
+                G typedGame = gameClass.cast(game);
+                K gameKey = key.apply(typedGame);
+                if (!installedKeys.contains(gameKey))
+                    return scanned.test(typedGame);
+
+                knownKeys.add(gameKey);
+                return false;
+            });
+            return knownKeys;
+        });
+    }
+
+    // Remembers a launcher location a manual import read from, so the library watcher rescans it later.
+    public void addLibrarySource(String gameType, Path source) {
+        String location = source.toAbsolutePath().normalize().toString();
+        if (this.librarySources.computeIfAbsent(gameType, ignored -> new CopyOnWriteArrayList<>()).addIfAbsent(location))
+            save();
+    }
+
+    // Whether a game's recorded source is one a rescan read. Games with no recorded source never are, so they are kept.
+    public static boolean isFromLibrarySource(@Nullable String source, Set<Path> readSources) {
+        Path path = Utils.toPathOrNull(source);
+        return path != null && readSources.contains(path.toAbsolutePath());
+    }
+
+    // The launcher's default location first, then every location a manual import read from.
+    public List<Path> getLibrarySources(String gameType, @Nullable Path defaultSource) {
+        Set<Path> sources = new LinkedHashSet<>();
+        if (defaultSource != null)
+            sources.add(defaultSource.toAbsolutePath().normalize());
+
+        List<String> locations = this.librarySources.get(gameType);
+        if (locations != null) {
+            for (String location : locations) {
+                Path source = Utils.toPathOrNull(location);
+                if (source != null)
+                    sources.add(source);
+            }
+        }
+
+        return List.copyOf(sources);
+    }
+
     public boolean containsGame(Game game) {
         return findMatchingGame(game).isPresent();
     }
 
+    public List<Game> getGamesByType(String type) {
+        return this.gameIndex.findByType(type);
+    }
+
+    public List<Game> getGamesByIgdbGameId(int igdbGameId) {
+        return this.gameIndex.findByIgdbGameId(igdbGameId);
+    }
+
     public boolean setSteamConfiguration(String executable, String libraryFolders) {
         return setSteamConfiguration(executable, libraryFolders, null);
     }
@@ -192,6 +388,23 @@ public final class Database {
         return true;
     }
 
+    public void resyncSteam() {
+        if (!isSteamConfigured())
+            return;
+
+        try {
+            this.steamHandler.onSteamConfigurationUpdated(
+                    Path.of(getSteamExecutable()),
+                    Path.of(getSteamLibraryFolders()),
+                    this.games,
+                    this.loadingGames,
+                    null
+            );
+        } catch (InvalidPathException exception) {
+            GameDashboardApp.LOGGER.warn("Invalid Steam configuration", exception);
+        }
+    }
+
     public ReadOnlyStringProperty steamExecutableProperty() {
         return this.steamExecutable.getReadOnlyProperty();
     }
@@ -215,16 +428,14 @@ public final class Database {
     }
 
     private Optional<Game> findMatchingGame(Game game) {
-        if (game == null)
-            return Optional.empty();
-
-        return this.games.stream()
-                .filter(game::matches)
-                .findFirst();
+        return this.gameIndex.findMatching(game);
     }
 
     public void completeOnboarding() {
         this.onboardingComplete = true;
         save();
     }
+
+    private record PersistedState(DashboardConfig config, GameChanges games) {
+    }
 }
@@ -0,0 +1,173 @@
+package dev.turtywurty.gamedashboard.data;
+
+import dev.turtywurty.gamedashboard.GameDashboardApp;
+import dev.turtywurty.gamedashboard.util.ProgressMonitor;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+// Runs every scanner's per-game work on virtual threads, with one shared limit on how many run at once.
+public final class DiscoveryScheduler {
+    private static final int MAX_CONCURRENT_TASKS =
+            Math.max(1, Integer.getInteger("gamedashboard.discovery.maxConcurrentTasks", 16));
+    private static final DiscoveryScheduler INSTANCE = new DiscoveryScheduler(MAX_CONCURRENT_TASKS);
+
+    private final Semaphore permits;
+    private final Object lock = new Object();
+    private final PriorityQueue<QueuedTask> queue = new PriorityQueue<>(
+            Comparator.comparing(QueuedTask::priority).thenComparingLong(QueuedTask::sequence)
+    );
+    private final Set<Tasks> openTasks = ConcurrentHashMap.newKeySet();
+    private long nextSequence;
+
+    private DiscoveryScheduler(int maxConcurrentTasks) {
+        this.permits = new Semaphore(maxConcurrentTasks);
+    }
+
+    public static DiscoveryScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    // Discovery the user is watching outranks background rescans, which report to ProgressMonitor.NONE.
+    public Tasks open(String name, ProgressMonitor progressMonitor) {
+        return open(name, progressMonitor == ProgressMonitor.NONE ? Priority.BACKGROUND : Priority.INTERACTIVE, progressMonitor);
+    }
+
+    public Tasks open(String name, Priority priority, ProgressMonitor progressMonitor) {
+        var tasks = new Tasks(
+                Objects.requireNonNull(name, "name"),
+                Objects.requireNonNull(priority, "priority"),
+                Objects.requireNonNull(progressMonitor, "progressMonitor")
+        );
+        this.openTasks.add(tasks);
+        return tasks;
+    }
+
+    public void cancelAll() {
+        for (Tasks tasks : this.openTasks) {
+            tasks.cancel();
+        }
+    }
+
+    private void enqueue(Tasks owner, Runnable task) {
+        synchronized (this.lock) {
+            this.queue.add(new QueuedTask(owner, task, owner.priority, this.nextSequence++));
+        }
+
+        dispatch();
+    }
+
+    // Every release is followed by another dispatch, so a queued task is never left waiting on a free permit.
+    private void dispatch() {
+        while (true) {
+            QueuedTask next;
+            synchronized (this.lock) {
+                if (this.queue.isEmpty() || !this.permits.tryAcquire())
+                    return;
+
+                next = this.queue.poll();
+            }
+
+            Thread.ofVirtual().name("discovery-" + next.owner().name).start(() -> {
+                try {
+                    next.owner().run(next.task());
+                } finally {
+                    this.permits.release();
+                    dispatch();
+                }
+            });
+        }
+    }
+
+    public enum Priority {
+        INTERACTIVE,
+        BACKGROUND
+    }
+
+    // Tasks must not open scopes of their own and wait on them, or they could hold every permit while waiting.
+    public final class Tasks implements AutoCloseable {
+        private final String name;
+        private final Priority priority;
+        private final ProgressMonitor progressMonitor;
+        private final Set<Thread> runningThreads = ConcurrentHashMap.newKeySet();
+        private volatile boolean cancelled;
+        private int pending;
+
+        private Tasks(String name, Priority priority, ProgressMonitor progressMonitor) {
+            this.name = name;
+            this.priority = priority;
+            this.progressMonitor = progressMonitor;
+        }
+
+        public void submit(Runnable task) {
+            Objects.requireNonNull(task, "task");
+            synchronized (this) {
+                this.pending++;
+            }
+
+            enqueue(this, task);
+        }
+
+        // Queued tasks are dropped and running ones interrupted; each still counts as worked so progress completes.
+        public void cancel() {
+            this.cancelled = true;
+            for (Thread thread : this.runningThreads) {
+                thread.interrupt();
+            }
+        }
+
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        // Waits for every submitted task, then reports the scope as done.
+        @Override
+        public void close() {
+            boolean interrupted = false;
+            synchronized (this) {
+                while (this.pending > 0) {
+                    try {
+                        wait();
+                    } catch (InterruptedException exception) {
+                        interrupted = true;
+                        cancel();
+                    }
+                }
+            }
+
+            DiscoveryScheduler.this.openTasks.remove(this);
+            this.progressMonitor.done();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void run(Runnable task) {
+            Thread thread = Thread.currentThread();
+            // Registered before the check, so a cancel() either sees this thread or is seen by it.
+            this.runningThreads.add(thread);
+            try {
+                if (!this.cancelled) {
+                    task.run();
+                }
+            } catch (RuntimeException exception) {
+                GameDashboardApp.LOGGER.error("Discovery task for {} failed", this.name, exception);
+            } finally {
+                this.runningThreads.remove(thread);
+                this.progressMonitor.worked(1);
+                synchronized (this) {
+                    if (--this.pending == 0) {
+                        notifyAll();
+                    }
+                }
+            }
+        }
+    }
+
+    private record QueuedTask(Tasks owner, Runnable task, Priority priority, long sequence) {
+    }
+}
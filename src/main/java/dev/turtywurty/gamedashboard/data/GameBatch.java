@@ -0,0 +1,69 @@
+package dev.turtywurty.gamedashboard.data;
+
+import dev.turtywurty.gamedashboard.data.game.Game;
+import dev.turtywurty.gamedashboard.util.Utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Collects games found by a scanner's worker threads and hands them to Database.mergeGames a chunk at a time.
+public final class GameBatch implements AutoCloseable {
+    private static final int FLUSH_SIZE = 25;
+
+    private final List<Game> pending = new ArrayList<>();
+    private final Consumer<List<Game>> onMerged;
+
+    public GameBatch() {
+        this(games -> {
+        });
+    }
+
+    // onMerged runs on the FX thread straight after each chunk is merged.
+    public GameBatch(Consumer<List<Game>> onMerged) {
+        this.onMerged = onMerged;
+    }
+
+    public void add(Game game) {
+        if (game == null)
+            return;
+
+        List<Game> ready = null;
+        synchronized (this.pending) {
+            this.pending.add(game);
+            if (this.pending.size() >= FLUSH_SIZE) {
+                ready = List.copyOf(this.pending);
+                this.pending.clear();
+            }
+        }
+
+        if (ready != null) {
+            merge(ready);
+        }
+    }
+
+    public void flush() {
+        List<Game> ready;
+        synchronized (this.pending) {
+            if (this.pending.isEmpty())
+                return;
+
+            ready = List.copyOf(this.pending);
+            this.pending.clear();
+        }
+
+        merge(ready);
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private void merge(List<Game> games) {
+        Utils.runOnFxThread(() -> {
+            Database.getInstance().mergeGames(games);
+            this.onMerged.accept(games);
+        });
+    }
+}
@@ -0,0 +1,157 @@
+package dev.turtywurty.gamedashboard.data;
+
+import dev.turtywurty.gamedashboard.data.game.Game;
+import javafx.collections.ListChangeListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Kept in sync by listening to the games list, since SteamHandler edits that list directly.
+final class GameIndex implements ListChangeListener<Game> {
+    private final Map<Object, List<Game>> byMatchKey = new HashMap<>();
+    private final Map<String, List<Game>> byType = new HashMap<>();
+    private final Map<Integer, List<Game>> byIgdbGameId = new HashMap<>();
+    // Only appends and same-size replacements keep positions current; anything else rebuilds them on the next lookup.
+    private final Map<Game, Integer> positions = new IdentityHashMap<>();
+    private boolean positionsStale = true;
+
+    @Override
+    public void onChanged(Change<? extends Game> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                this.positionsStale = true;
+                continue;
+            }
+
+            for (Game game : change.getRemoved()) {
+                remove(game);
+            }
+
+            for (Game game : change.getAddedSubList()) {
+                add(game);
+            }
+
+            trackPositions(change);
+        }
+    }
+
+    int positionOf(Game game, List<Game> games) {
+        if (this.positionsStale) {
+            this.positions.clear();
+            for (int position = 0; position < games.size(); position++) {
+                this.positions.put(games.get(position), position);
+            }
+
+            this.positionsStale = false;
+        }
+
+        return this.positions.getOrDefault(game, -1);
+    }
+
+    Optional<Game> findMatching(Game game) {
+        if (game == null)
+            return Optional.empty();
+
+        for (Object key : keysOf(game)) {
+            for (Game candidate : this.byMatchKey.getOrDefault(key, List.of())) {
+                if (game.matches(candidate))
+                    return Optional.of(candidate);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    List<Game> findByType(String type) {
+        return List.copyOf(this.byType.getOrDefault(type, List.of()));
+    }
+
+    List<Game> findByIgdbGameId(int igdbGameId) {
+        return List.copyOf(this.byIgdbGameId.getOrDefault(igdbGameId, List.of()));
+    }
+
+    void add(Game game) {
+        if (game == null)
+            return;
+
+        for (Object key : keysOf(game)) {
+            put(this.byMatchKey, key, game);
+        }
+
+        put(this.byType, game.getType(), game);
+        put(this.byIgdbGameId, game.getIgdbGameId(), game);
+    }
+
+    void remove(Game game) {
+        if (game == null)
+            return;
+
+        for (Object key : keysOf(game)) {
+            remove(this.byMatchKey, key, game);
+        }
+
+        remove(this.byType, game.getType(), game);
+        remove(this.byIgdbGameId, game.getIgdbGameId(), game);
+    }
+
+    private void trackPositions(Change<? extends Game> change) {
+        if (this.positionsStale || (!change.wasAdded() && !change.wasRemoved()))
+            return;
+
+        boolean appended = !change.wasRemoved() && change.getTo() == change.getList().size();
+        boolean replaced = change.wasReplaced() && change.getRemovedSize() == change.getAddedSize();
+        if (!appended && !replaced) {
+            this.positionsStale = true;
+            return;
+        }
+
+        for (Game game : change.getRemoved()) {
+            this.positions.remove(game);
+        }
+
+        List<? extends Game> added = change.getAddedSubList();
+        for (int offset = 0; offset < added.size(); offset++) {
+            this.positions.put(added.get(offset), change.getFrom() + offset);
+        }
+    }
+
+    private static List<Object> keysOf(Game game) {
+        List<Object> keys = new ArrayList<>(game.matchKeys());
+        if (game.getLaunchTarget() != null) {
+            keys.add(game.getLaunchTarget());
+        }
+
+        return keys;
+    }
+
+    private static <K> void put(Map<K, List<Game>> index, K key, Game game) {
+        if (key != null) {
+            index.computeIfAbsent(key, ignored -> new ArrayList<>(1)).add(game);
+        }
+    }
+
+    // Games compare by value, so entries are removed by identity to leave an equal duplicate indexed.
+    private static <K> void remove(Map<K, List<Game>> index, K key, Game game) {
+        if (key == null)
+            return;
+
+        List<Game> games = index.get(key);
+        if (games == null)
+            return;
+
+        for (int position = 0; position < games.size(); position++) {
+            if (games.get(position) == game) {
+                games.remove(position);
+                break;
+            }
+        }
+
+        if (games.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import java.text.Normalizer;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -12,6 +14,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 public final class IGDBGameMatcher {
@@ -53,6 +56,8 @@ public final class IGDBGameMatcher {
     private static final Pattern SEPARATORS = Pattern.compile("[:\\-\\u2013\\u2014.,'\"_/\\\\()\\[\\]{}]+");
     private static final Pattern NON_TOKEN = Pattern.compile("[^a-z0-9& ]+");
     private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_PREPARED_TITLES = 50_000;
+    private static final Map<String, PreparedTitle> PREPARED_TITLES = new ConcurrentHashMap<>();
 
     private IGDBGameMatcher() {
     }
@@ -140,9 +145,12 @@ public final class IGDBGameMatcher {
             String platform,
             Integer releaseYear
     ) {
+        PreparedTitle local = prepareTitle(localTitle);
+        // One buffer per call: matching runs on virtual threads, where a ThreadLocal buffer would never be reused.
+        ScoringScratch scratch = new ScoringScratch();
         List<ScoredCandidate> scoredCandidates = candidates.stream()
                 .filter(Objects::nonNull)
-                .map(candidate -> score(localTitle, candidate, platform, releaseYear))
+                .map(candidate -> score(local, candidate, platform, releaseYear, scratch))
                 .sorted(Comparator.comparing(ScoredCandidate::score)
                         .reversed()
                         .thenComparing(candidate -> candidate.candidate().parentGame() != null
@@ -173,6 +181,17 @@ public final class IGDBGameMatcher {
                 "Selected '" + best.candidate().name() + "' with score " + format(best.score()) + ".");
     }
 
+    public static boolean isConfidentMatch(String localTitle, MatchResult match) {
+        if (match == null || match.winner() == null || match.ambiguous())
+            return false;
+
+        ScoredCandidate winner = match.winner();
+        if (winner.score() <= MATCH_THRESHOLD + AMBIGUITY_MARGIN)
+            return false;
+
+        return isExactNormalizedMatch(normalizeTitle(localTitle), normalizeTitle(winner.candidate().name()));
+    }
+
     private static boolean isEquivalentRelease(
             APIConnector.IGDBGameCandidate first,
             APIConnector.IGDBGameCandidate second
@@ -187,25 +206,27 @@ public final class IGDBGameMatcher {
     }
 
     private static ScoredCandidate score(
-            String localTitle,
+            PreparedTitle preparedLocal,
             APIConnector.IGDBGameCandidate candidate,
             String platform,
-            Integer releaseYear
+            Integer releaseYear,
+            ScoringScratch scratch
     ) {
-        TitleParts local = normalizeTitle(localTitle);
-        List<String> candidateTitles = new ArrayList<>();
-        candidateTitles.add(candidate.name());
-        candidateTitles.add(candidate.slug());
-        candidateTitles.addAll(candidate.alternativeNames());
-
+        PreparedTitle preparedName = prepareTitle(candidate.name());
         double bestTextScore = 0;
         String bestTitle = "";
-        for (String candidateTitle : candidateTitles) {
+        int titleCount = candidate.alternativeNames().size() + 2;
+        for (int index = 0; index < titleCount; index++) {
+            String candidateTitle = switch (index) {
+                case 0 -> candidate.name();
+                case 1 -> candidate.slug();
+                default -> candidate.alternativeNames().get(index - 2);
+            };
             if (candidateTitle == null || candidateTitle.isBlank())
                 continue;
 
-            TitleParts candidateParts = normalizeTitle(candidateTitle);
-            double textScore = textScore(local, candidateParts);
+            PreparedTitle candidateParts = index == 0 ? preparedName : prepareTitle(candidateTitle);
+            double textScore = textScore(preparedLocal, candidateParts, scratch);
             if (textScore > bestTextScore) {
                 bestTextScore = textScore;
                 bestTitle = candidateTitle;
@@ -216,22 +237,22 @@ public final class IGDBGameMatcher {
         List<String> reasons = new ArrayList<>();
         reasons.add("text=" + format(bestTextScore) + " via '" + bestTitle + "'");
 
-        TitleParts candidateName = normalizeTitle(candidate.name());
+        TitleParts local = preparedLocal.parts();
+        TitleParts candidateName = preparedName.parts();
         boolean exactNormalizedMatch = isExactNormalizedMatch(local, candidateName);
         if (exactNormalizedMatch) {
             score += 14;
             reasons.add("exact normalized title");
         }
 
-        Set<String> importantLocalTokens = importantTokens(local.tokensNoAnd());
-        Set<String> candidateTokens = new HashSet<>(candidateName.tokensNoAnd());
-        if (!importantLocalTokens.isEmpty() && candidateTokens.containsAll(importantLocalTokens)) {
+        TokenSet importantLocalTokens = preparedLocal.importantTokensNoAnd();
+        if (!importantLocalTokens.isEmpty() && preparedName.tokensNoAnd().containsAll(importantLocalTokens)) {
             score += 8;
             reasons.add("all important tokens");
         }
 
-        Set<String> localNumbers = numericTokens(local.tokens());
-        Set<String> candidateNumbers = numericTokens(candidateName.tokens());
+        TokenSet localNumbers = preparedLocal.numericTokens();
+        TokenSet candidateNumbers = preparedName.numericTokens();
         if (!localNumbers.isEmpty()) {
             if (candidateNumbers.containsAll(localNumbers)) {
                 score += 9;
@@ -261,7 +282,7 @@ public final class IGDBGameMatcher {
             }
         }
 
-        double overlap = tokenOverlap(local.tokensNoAnd(), candidateName.tokensNoAnd());
+        double overlap = tokenOverlap(importantLocalTokens, preparedName.importantTokensNoAnd());
         if (overlap < 0.45) {
             score -= 18;
             reasons.add("low token overlap");
@@ -286,10 +307,11 @@ public final class IGDBGameMatcher {
         return new ScoredCandidate(candidate, normalizedScore, reasons);
     }
 
-    private static double textScore(TitleParts local, TitleParts candidate) {
+    private static double textScore(PreparedTitle local, PreparedTitle candidate, ScoringScratch scratch) {
         double tokenScore = tokenSetRatio(local.tokensNoAnd(), candidate.tokensNoAnd());
-        double jaroScore = jaroWinkler(local.normalizedNoAnd(), candidate.normalizedNoAnd()) * 100;
-        double levenshteinScore = levenshteinRatio(local.normalizedNoAnd(), candidate.normalizedNoAnd()) * 100;
+        double jaroScore = jaroWinkler(local.normalizedNoAndChars(), candidate.normalizedNoAndChars(), scratch) * 100;
+        double levenshteinScore =
+                levenshteinRatio(local.normalizedNoAndChars(), candidate.normalizedNoAndChars(), scratch) * 100;
         return tokenScore * 0.50 + jaroScore * 0.30 + levenshteinScore * 0.20;
     }
 
@@ -299,9 +321,25 @@ public final class IGDBGameMatcher {
     }
 
     public static TitleParts normalizeTitle(String rawTitle) {
-        if (rawTitle == null)
-            rawTitle = "";
+        return prepareTitle(rawTitle).parts();
+    }
+
+    private static PreparedTitle prepareTitle(String rawTitle) {
+        String key = rawTitle == null ? "" : rawTitle;
+        PreparedTitle prepared = PREPARED_TITLES.get(key);
+        if (prepared != null)
+            return prepared;
+
+        // A full clear is cheaper than LRU bookkeeping and only happens after very large candidate sweeps.
+        if (PREPARED_TITLES.size() >= MAX_PREPARED_TITLES)
+            PREPARED_TITLES.clear();
+
+        prepared = PreparedTitle.of(computeTitleParts(key));
+        PreparedTitle existing = PREPARED_TITLES.putIfAbsent(key, prepared);
+        return existing == null ? prepared : existing;
+    }
 
+    private static TitleParts computeTitleParts(String rawTitle) {
         String normalized = SYMBOLS.matcher(rawTitle).replaceAll("");
         normalized = Normalizer.normalize(normalized, Normalizer.Form.NFKD);
         normalized = normalized.replaceAll("(?i)\\((?:tm|r|c)\\)", "");
@@ -383,51 +421,44 @@ public final class IGDBGameMatcher {
         return numbers;
     }
 
-    private static double tokenSetRatio(List<String> leftTokens, List<String> rightTokens) {
-        Set<String> left = new LinkedHashSet<>(leftTokens);
-        Set<String> right = new LinkedHashSet<>(rightTokens);
+    private static double tokenSetRatio(TokenSet left, TokenSet right) {
         if (left.isEmpty() && right.isEmpty())
             return 100;
         if (left.isEmpty() || right.isEmpty())
             return 0;
 
-        Set<String> intersection = new HashSet<>(left);
-        intersection.retainAll(right);
+        int intersection = left.intersectionSize(right);
         double containment = Math.max(
-                (double) intersection.size() / left.size(),
-                (double) intersection.size() / right.size()
+                (double) intersection / left.size(),
+                (double) intersection / right.size()
         );
-        double dice = (2.0 * intersection.size()) / (left.size() + right.size());
+        double dice = (2.0 * intersection) / (left.size() + right.size());
         return (containment * 0.65 + dice * 0.35) * 100;
     }
 
-    private static double tokenOverlap(List<String> leftTokens, List<String> rightTokens) {
-        Set<String> left = importantTokens(leftTokens);
-        Set<String> right = importantTokens(rightTokens);
-        if (left.isEmpty())
+    private static double tokenOverlap(TokenSet importantLeft, TokenSet importantRight) {
+        if (importantLeft.isEmpty())
             return 0;
 
-        Set<String> intersection = new HashSet<>(left);
-        intersection.retainAll(right);
-        return (double) intersection.size() / left.size();
+        return (double) importantLeft.intersectionSize(importantRight) / importantLeft.size();
     }
 
-    private static double levenshteinRatio(String left, String right) {
-        if (left.equals(right))
+    private static double levenshteinRatio(char[] left, char[] right, ScoringScratch scratch) {
+        if (Arrays.equals(left, right))
             return 1;
-        if (left.isEmpty() || right.isEmpty())
+        if (left.length == 0 || right.length == 0)
             return 0;
 
-        int[] previous = new int[right.length() + 1];
-        int[] current = new int[right.length() + 1];
-        for (int index = 0; index <= right.length(); index++) {
+        int[] previous = scratch.previousRow(right.length + 1);
+        int[] current = scratch.currentRow(right.length + 1);
+        for (int index = 0; index <= right.length; index++) {
             previous[index] = index;
         }
 
-        for (int leftIndex = 1; leftIndex <= left.length(); leftIndex++) {
+        for (int leftIndex = 1; leftIndex <= left.length; leftIndex++) {
             current[0] = leftIndex;
-            for (int rightIndex = 1; rightIndex <= right.length(); rightIndex++) {
-                int cost = left.charAt(leftIndex - 1) == right.charAt(rightIndex - 1) ? 0 : 1;
+            for (int rightIndex = 1; rightIndex <= right.length; rightIndex++) {
+                int cost = left[leftIndex - 1] == right[rightIndex - 1] ? 0 : 1;
                 current[rightIndex] = Math.min(
                         Math.min(current[rightIndex - 1] + 1, previous[rightIndex] + 1),
                         previous[rightIndex - 1] + cost
@@ -439,24 +470,24 @@ public final class IGDBGameMatcher {
             current = swap;
         }
 
-        return 1.0 - (double) previous[right.length()] / Math.max(left.length(), right.length());
+        return 1.0 - (double) previous[right.length] / Math.max(left.length, right.length);
     }
 
-    private static double jaroWinkler(String left, String right) {
-        if (left.equals(right))
+    private static double jaroWinkler(char[] left, char[] right, ScoringScratch scratch) {
+        if (Arrays.equals(left, right))
             return 1;
-        if (left.isEmpty() || right.isEmpty())
+        if (left.length == 0 || right.length == 0)
             return 0;
 
-        int matchDistance = Math.max(left.length(), right.length()) / 2 - 1;
-        boolean[] leftMatches = new boolean[left.length()];
-        boolean[] rightMatches = new boolean[right.length()];
+        int matchDistance = Math.max(left.length, right.length) / 2 - 1;
+        boolean[] leftMatches = scratch.leftMatches(left.length);
+        boolean[] rightMatches = scratch.rightMatches(right.length);
         int matches = 0;
-        for (int leftIndex = 0; leftIndex < left.length(); leftIndex++) {
+        for (int leftIndex = 0; leftIndex < left.length; leftIndex++) {
             int start = Math.max(0, leftIndex - matchDistance);
-            int end = Math.min(leftIndex + matchDistance + 1, right.length());
+            int end = Math.min(leftIndex + matchDistance + 1, right.length);
             for (int rightIndex = start; rightIndex < end; rightIndex++) {
-                if (rightMatches[rightIndex] || left.charAt(leftIndex) != right.charAt(rightIndex))
+                if (rightMatches[rightIndex] || left[leftIndex] != right[rightIndex])
                     continue;
 
                 leftMatches[leftIndex] = true;
@@ -471,7 +502,7 @@ public final class IGDBGameMatcher {
 
         double transpositions = 0;
         int rightIndex = 0;
-        for (int leftIndex = 0; leftIndex < left.length(); leftIndex++) {
+        for (int leftIndex = 0; leftIndex < left.length; leftIndex++) {
             if (!leftMatches[leftIndex])
                 continue;
 
@@ -479,17 +510,17 @@ public final class IGDBGameMatcher {
                 rightIndex++;
             }
 
-            if (left.charAt(leftIndex) != right.charAt(rightIndex))
+            if (left[leftIndex] != right[rightIndex])
                 transpositions++;
             rightIndex++;
         }
 
-        double jaro = ((double) matches / left.length()
-                + (double) matches / right.length()
+        double jaro = ((double) matches / left.length
+                + (double) matches / right.length
                 + (matches - transpositions / 2.0) / matches) / 3.0;
         int prefix = 0;
-        int maxPrefix = Math.min(4, Math.min(left.length(), right.length()));
-        while (prefix < maxPrefix && left.charAt(prefix) == right.charAt(prefix)) {
+        int maxPrefix = Math.min(4, Math.min(left.length, right.length));
+        while (prefix < maxPrefix && left[prefix] == right[prefix]) {
             prefix++;
         }
 
@@ -520,6 +551,110 @@ public final class IGDBGameMatcher {
     private record TokenWindow(String query, int size, int start, boolean containsNumber) {
     }
 
+    private record PreparedTitle(
+            TitleParts parts,
+            char[] normalizedNoAndChars,
+            TokenSet tokensNoAnd,
+            TokenSet importantTokensNoAnd,
+            TokenSet numericTokens
+    ) {
+        private static PreparedTitle of(TitleParts parts) {
+            return new PreparedTitle(
+                    parts,
+                    parts.normalizedNoAnd().toCharArray(),
+                    TokenSet.of(parts.tokensNoAnd()),
+                    TokenSet.of(importantTokens(parts.tokensNoAnd())),
+                    TokenSet.of(numericTokens(parts.tokens()))
+            );
+        }
+    }
+
+    private record TokenSet(int[] hashes, String[] tokens) {
+        private static final Comparator<String> ORDER = Comparator.comparingInt(String::hashCode)
+                .thenComparing(Comparator.naturalOrder());
+
+        private static TokenSet of(Collection<String> values) {
+            String[] tokens = values.stream()
+                    .distinct()
+                    .sorted(ORDER)
+                    .toArray(String[]::new);
+            int[] hashes = new int[tokens.length];
+            for (int index = 0; index < tokens.length; index++) {
+                hashes[index] = tokens[index].hashCode();
+            }
+
+            return new TokenSet(hashes, tokens);
+        }
+
+        private int size() {
+            return this.tokens.length;
+        }
+
+        private boolean isEmpty() {
+            return this.tokens.length == 0;
+        }
+
+        private boolean containsAll(TokenSet other) {
+            return intersectionSize(other) == other.size();
+        }
+
+        private int intersectionSize(TokenSet other) {
+            int count = 0;
+            int left = 0;
+            int right = 0;
+            while (left < this.hashes.length && right < other.hashes.length) {
+                int compare = Integer.compare(this.hashes[left], other.hashes[right]);
+                if (compare == 0)
+                    compare = this.tokens[left].compareTo(other.tokens[right]);
+
+                if (compare == 0) {
+                    count++;
+                    left++;
+                    right++;
+                } else if (compare < 0) {
+                    left++;
+                } else {
+                    right++;
+                }
+            }
+
+            return count;
+        }
+    }
+
+    private static final class ScoringScratch {
+        private int[] previousRow = new int[64];
+        private int[] currentRow = new int[64];
+        private boolean[] leftMatches = new boolean[64];
+        private boolean[] rightMatches = new boolean[64];
+
+        private int[] previousRow(int length) {
+            if (this.previousRow.length < length)
+                this.previousRow = new int[length * 2];
+            return this.previousRow;
+        }
+
+        private int[] currentRow(int length) {
+            if (this.currentRow.length < length)
+                this.currentRow = new int[length * 2];
+            return this.currentRow;
+        }
+
+        private boolean[] leftMatches(int length) {
+            if (this.leftMatches.length < length)
+                this.leftMatches = new boolean[length * 2];
+            Arrays.fill(this.leftMatches, 0, length, false);
+            return this.leftMatches;
+        }
+
+        private boolean[] rightMatches(int length) {
+            if (this.rightMatches.length < length)
+                this.rightMatches = new boolean[length * 2];
+            Arrays.fill(this.rightMatches, 0, length, false);
+            return this.rightMatches;
+        }
+    }
+
     public record TitleParts(
             String normalized,
             String normalizedNoAnd,
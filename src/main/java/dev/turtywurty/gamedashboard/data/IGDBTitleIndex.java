@@ -0,0 +1,462 @@
+package dev.turtywurty.gamedashboard.data;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.Strictness;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import dev.turtywurty.gamedashboard.GameDashboardApp;
+import dev.turtywurty.gamedashboard.data.store.JsonFileStore;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public final class IGDBTitleIndex {
+    private static final String FILE_NAME = "igdb-title-index.json";
+    private static final int NGRAM_SIZE = 3;
+    private static final double MIN_SIMILARITY = 0.35;
+    private static final long SAVE_DELAY_MILLIS = 5_000;
+    private static final int MAX_ENTRIES = Math.max(1, Integer.getInteger("gamedashboard.igdbIndex.maxEntries", 100_000));
+    private static final Gson GSON = new GsonBuilder()
+            .disableHtmlEscaping()
+            .create();
+    private static final IGDBTitleIndex INSTANCE = new IGDBTitleIndex(Database.getAppDataPath());
+
+    private final Path indexPath;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Insertion-ordered by last update, so the entries evicted past MAX_ENTRIES are the ones seen longest ago.
+    private final LinkedHashMap<Integer, IndexEntry> entries = new LinkedHashMap<>();
+    private final Map<Integer, IndexedTitle> titles = new HashMap<>();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final AtomicBoolean saveScheduled = new AtomicBoolean();
+    private final Executor delayedSaveExecutor =
+            CompletableFuture.delayedExecutor(SAVE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    private int nextTitleId;
+
+    private IGDBTitleIndex(Path appDataPath) {
+        this.indexPath = Objects.requireNonNull(appDataPath, "appDataPath").resolve(FILE_NAME);
+        load();
+    }
+
+    public static IGDBTitleIndex getInstance() {
+        return INSTANCE;
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.entries.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public List<APIConnector.IGDBGameCandidate> search(String title, int limit) {
+        Set<String> queryGrams = ngrams(IGDBGameMatcher.normalizeTitle(title).normalizedNoAnd());
+        if (queryGrams.isEmpty() || limit <= 0)
+            return List.of();
+
+        this.lock.readLock().lock();
+        try {
+            Map<Integer, Integer> sharedGramsByTitle = new HashMap<>();
+            for (String gram : queryGrams) {
+                PostingList postingList = this.postings.get(gram);
+                if (postingList == null)
+                    continue;
+
+                for (int index = 0; index < postingList.size; index++) {
+                    sharedGramsByTitle.merge(postingList.titleIds[index], 1, Integer::sum);
+                }
+            }
+
+            Map<Integer, Double> similarityByGame = new HashMap<>();
+            sharedGramsByTitle.forEach((titleId, sharedGrams) -> {
+                IndexedTitle indexedTitle = this.titles.get(titleId);
+                double similarity = 2.0 * sharedGrams / (queryGrams.size() + indexedTitle.gramCount());
+                if (similarity >= MIN_SIMILARITY)
+                    similarityByGame.merge(indexedTitle.gameId(), similarity, Math::max);
+            });
+
+            return similarityByGame.entrySet().stream()
+                    .sorted(Map.Entry.<Integer, Double>comparingByValue().reversed())
+                    .limit(limit)
+                    .map(entry -> this.entries.get(entry.getKey()).candidate())
+                    .toList();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public void addAll(Collection<APIConnector.IGDBGameCandidate> candidates) {
+        boolean changed = false;
+        this.lock.writeLock().lock();
+        try {
+            for (APIConnector.IGDBGameCandidate candidate : candidates) {
+                changed |= addLocked(candidate);
+            }
+
+            changed |= evictLocked();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+
+        if (changed)
+            scheduleSave();
+    }
+
+    public int importDump(Path dumpFile) throws IOException {
+        List<APIConnector.IGDBGameCandidate> candidates = new ArrayList<>();
+        try (Reader fileReader = Files.newBufferedReader(dumpFile);
+             JsonReader reader = new JsonReader(fileReader)) {
+            // Accepts both a single JSON array and newline-delimited JSON objects.
+            reader.setStrictness(Strictness.LENIENT);
+            while (reader.peek() != JsonToken.END_DOCUMENT) {
+                if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        readDumpGame(reader, candidates);
+                    }
+
+                    reader.endArray();
+                } else {
+                    readDumpGame(reader, candidates);
+                }
+            }
+        } catch (JsonParseException | IllegalStateException exception) {
+            throw new IOException("Invalid IGDB dump file: " + dumpFile, exception);
+        }
+
+        addAll(candidates);
+        GameDashboardApp.LOGGER.info("Imported {} IGDB titles from {}", candidates.size(), dumpFile);
+        return candidates.size();
+    }
+
+    private static void readDumpGame(JsonReader reader, List<APIConnector.IGDBGameCandidate> candidates) {
+        if (!JsonToken.BEGIN_OBJECT.equals(peek(reader))) {
+            skip(reader);
+            return;
+        }
+
+        DumpGame game = GSON.fromJson(reader, DumpGame.class);
+        if (game != null && game.id > 0 && game.name != null && !game.name.isBlank())
+            candidates.add(game.toCandidate());
+    }
+
+    private boolean addLocked(APIConnector.IGDBGameCandidate candidate) {
+        if (candidate == null || candidate.id() <= 0 || candidate.name() == null)
+            return false;
+
+        IndexEntry existing = this.entries.remove(candidate.id());
+        APIConnector.IGDBGameCandidate merged = existing == null
+                ? merge(candidate, candidate)
+                : merge(existing.candidate(), candidate);
+        Map<String, Integer> titleIds = indexTitles(merged, existing == null ? Map.of() : existing.titleIds());
+        this.entries.put(merged.id(), new IndexEntry(merged, titleIds));
+        return existing == null || !merged.equals(existing.candidate());
+    }
+
+    private boolean evictLocked() {
+        boolean evicted = false;
+        Iterator<IndexEntry> iterator = this.entries.values().iterator();
+        while (this.entries.size() > MAX_ENTRIES && iterator.hasNext()) {
+            IndexEntry eldest = iterator.next();
+            iterator.remove();
+            eldest.titleIds().forEach(this::removeTitle);
+            evicted = true;
+        }
+
+        return evicted;
+    }
+
+    // Titles kept by the update reuse their postings; titles it no longer has are removed from them.
+    private Map<String, Integer> indexTitles(APIConnector.IGDBGameCandidate candidate, Map<String, Integer> previous) {
+        Map<String, Integer> titleIds = new HashMap<>();
+        for (String title : normalizedTitles(candidate)) {
+            Integer titleId = previous.get(title);
+            if (titleId != null) {
+                titleIds.put(title, titleId);
+                continue;
+            }
+
+            Set<String> grams = ngrams(title);
+            if (grams.isEmpty())
+                continue;
+
+            titleId = this.nextTitleId++;
+            this.titles.put(titleId, new IndexedTitle(candidate.id(), grams.size()));
+            for (String gram : grams) {
+                this.postings.computeIfAbsent(gram, ignored -> new PostingList()).add(titleId);
+            }
+
+            titleIds.put(title, titleId);
+        }
+
+        previous.forEach((title, titleId) -> {
+            if (!titleIds.containsKey(title))
+                removeTitle(title, titleId);
+        });
+
+        return Map.copyOf(titleIds);
+    }
+
+    private void removeTitle(String title, int titleId) {
+        this.titles.remove(titleId);
+        for (String gram : ngrams(title)) {
+            PostingList postingList = this.postings.get(gram);
+            if (postingList != null && postingList.remove(titleId) && postingList.size == 0)
+                this.postings.remove(gram);
+        }
+    }
+
+    private static APIConnector.IGDBGameCandidate merge(
+            APIConnector.IGDBGameCandidate existing,
+            APIConnector.IGDBGameCandidate update
+    ) {
+        Set<String> alternativeNames = new LinkedHashSet<>(existing.alternativeNames());
+        alternativeNames.addAll(update.alternativeNames());
+        return new APIConnector.IGDBGameCandidate(
+                existing.id(),
+                existing.name(),
+                firstNonNull(update.slug(), existing.slug()),
+                List.copyOf(alternativeNames),
+                update.platforms().isEmpty() ? existing.platforms() : update.platforms(),
+                firstNonNull(update.firstReleaseDate(), existing.firstReleaseDate()),
+                firstNonNull(update.category(), existing.category()),
+                firstNonNull(update.parentGame(), existing.parentGame()),
+                firstNonNull(update.versionParent(), existing.versionParent()),
+                firstNonNull(update.coverId(), existing.coverId()),
+                null,
+                null,
+                null
+        );
+    }
+
+    private static Set<String> normalizedTitles(APIConnector.IGDBGameCandidate candidate) {
+        Set<String> titles = new HashSet<>();
+        titles.add(IGDBGameMatcher.normalizeTitle(candidate.name()).normalizedNoAnd());
+        for (String alternativeName : candidate.alternativeNames()) {
+            titles.add(IGDBGameMatcher.normalizeTitle(alternativeName).normalizedNoAnd());
+        }
+
+        titles.remove("");
+        return titles;
+    }
+
+    private static Set<String> ngrams(String normalizedTitle) {
+        if (normalizedTitle == null || normalizedTitle.isBlank())
+            return Set.of();
+
+        String padded = " " + normalizedTitle + " ";
+        Set<String> grams = new HashSet<>();
+        for (int index = 0; index + NGRAM_SIZE <= padded.length(); index++) {
+            grams.add(padded.substring(index, index + NGRAM_SIZE));
+        }
+
+        return grams;
+    }
+
+    private void load() {
+        if (!Files.isRegularFile(this.indexPath))
+            return;
+
+        try {
+            List<APIConnector.IGDBGameCandidate> candidates = GSON.fromJson(
+                    Files.readString(this.indexPath),
+                    new TypeToken<List<APIConnector.IGDBGameCandidate>>() {
+                    }
+            );
+            if (candidates == null)
+                return;
+
+            this.lock.writeLock().lock();
+            try {
+                for (APIConnector.IGDBGameCandidate candidate : candidates) {
+                    if (candidate != null && candidate.alternativeNames() != null && candidate.platforms() != null)
+                        addLocked(candidate);
+                }
+
+                evictLocked();
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        } catch (IOException | JsonParseException exception) {
+            GameDashboardApp.LOGGER.error("Failed to load {}", FILE_NAME, exception);
+        }
+    }
+
+    private void scheduleSave() {
+        if (this.saveScheduled.compareAndSet(false, true))
+            this.delayedSaveExecutor.execute(this::save);
+    }
+
+    private void save() {
+        this.saveScheduled.set(false);
+        String json;
+        this.lock.readLock().lock();
+        try {
+            json = GSON.toJson(this.entries.values().stream().map(IndexEntry::candidate).toList());
+        } finally {
+            this.lock.readLock().unlock();
+        }
+
+        try {
+            JsonFileStore.writeAtomically(this.indexPath, json);
+        } catch (IOException exception) {
+            GameDashboardApp.LOGGER.error("Failed to save {}", FILE_NAME, exception);
+        }
+    }
+
+    private static JsonToken peek(JsonReader reader) {
+        try {
+            return reader.peek();
+        } catch (IOException exception) {
+            throw new JsonParseException(exception);
+        }
+    }
+
+    private static void skip(JsonReader reader) {
+        try {
+            reader.skipValue();
+        } catch (IOException exception) {
+            throw new JsonParseException(exception);
+        }
+    }
+
+    private static <T> T firstNonNull(T first, T fallback) {
+        return first == null ? fallback : first;
+    }
+
+    // Maps each normalized title of the entry to the title ID its postings are filed under.
+    private record IndexEntry(APIConnector.IGDBGameCandidate candidate, Map<String, Integer> titleIds) {
+    }
+
+    private record IndexedTitle(int gameId, int gramCount) {
+    }
+
+    private static final class PostingList {
+        private int[] titleIds = new int[4];
+        private int size;
+
+        private void add(int titleId) {
+            if (this.size == this.titleIds.length)
+                this.titleIds = Arrays.copyOf(this.titleIds, this.size * 2);
+
+            this.titleIds[this.size++] = titleId;
+        }
+
+        // Order does not matter to search, so the last ID is swapped into the gap.
+        private boolean remove(int titleId) {
+            for (int index = 0; index < this.size; index++) {
+                if (this.titleIds[index] == titleId) {
+                    this.titleIds[index] = this.titleIds[--this.size];
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    private static final class DumpGame {
+        private int id;
+        private String name;
+        private String slug;
+        @SerializedName("alternative_names")
+        private List<JsonElement> alternativeNames;
+        private List<JsonElement> platforms;
+        @SerializedName("first_release_date")
+        private Long firstReleaseDate;
+        private Integer category;
+        @SerializedName("parent_game")
+        private JsonElement parentGame;
+        @SerializedName("version_parent")
+        private JsonElement versionParent;
+        private JsonElement cover;
+
+        private APIConnector.IGDBGameCandidate toCandidate() {
+            List<String> names = new ArrayList<>();
+            if (this.alternativeNames != null) {
+                for (JsonElement alternativeName : this.alternativeNames) {
+                    String value = objectString(alternativeName, "name");
+                    if (value != null && !value.isBlank())
+                        names.add(value);
+                }
+            }
+
+            List<APIConnector.IGDBPlatform> platformList = new ArrayList<>();
+            if (this.platforms != null) {
+                for (JsonElement platform : this.platforms) {
+                    String platformName = objectString(platform, "name");
+                    String platformId = objectString(platform, "id");
+                    if (platformName == null || platformId == null)
+                        continue;
+
+                    try {
+                        platformList.add(new APIConnector.IGDBPlatform(Integer.parseInt(platformId), platformName));
+                    } catch (NumberFormatException ignored) {
+                        // Platforms without a numeric ID cannot be matched against IGDB platform IDs.
+                    }
+                }
+            }
+
+            return new APIConnector.IGDBGameCandidate(
+                    this.id,
+                    this.name,
+                    this.slug,
+                    List.copyOf(names),
+                    List.copyOf(platformList),
+                    this.firstReleaseDate,
+                    this.category,
+                    referenceId(this.parentGame),
+                    referenceId(this.versionParent),
+                    referenceId(this.cover),
+                    null,
+                    null,
+                    null
+            );
+        }
+
+        private static Integer referenceId(JsonElement element) {
+            // Dumps may contain either bare IDs or expanded objects for referenced entities.
+            JsonElement id = element != null && element.isJsonObject() ? element.getAsJsonObject().get("id") : element;
+            if (id == null || !id.isJsonPrimitive() || !id.getAsJsonPrimitive().isNumber())
+                return null;
+
+            return id.getAsInt();
+        }
+
+        private static String objectString(JsonElement element, String property) {
+            if (element == null || !element.isJsonObject())
+                return null;
+
+            JsonObject object = element.getAsJsonObject();
+            JsonElement value = object.get(property);
+            return value == null || !value.isJsonPrimitive() ? null : value.getAsString();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package dev.turtywurty.gamedashboard.data;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class RateLimiter {
+    private final double nanosPerToken;
+    private final int burstCapacity;
+    private final Semaphore inFlight;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition tokenAvailable = this.lock.newCondition();
+
+    private double tokens;
+    private long lastRefillNanos;
+    private long pausedUntilNanos;
+
+    RateLimiter(double permitsPerSecond, int burstCapacity, int maxConcurrentRequests) {
+        if (permitsPerSecond <= 0)
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        if (burstCapacity < 1)
+            throw new IllegalArgumentException("burstCapacity must be positive");
+        if (maxConcurrentRequests < 1)
+            throw new IllegalArgumentException("maxConcurrentRequests must be positive");
+
+        this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.burstCapacity = burstCapacity;
+        this.inFlight = new Semaphore(maxConcurrentRequests, true);
+        this.tokens = burstCapacity;
+        this.lastRefillNanos = System.nanoTime();
+        this.pausedUntilNanos = this.lastRefillNanos;
+    }
+
+    Permit acquire() throws InterruptedException {
+        this.inFlight.acquire();
+        try {
+            takeToken();
+        } catch (InterruptedException | RuntimeException exception) {
+            this.inFlight.release();
+            throw exception;
+        }
+
+        return new Permit(this.inFlight);
+    }
+
+    void pauseFor(long delayMillis) {
+        if (delayMillis <= 0)
+            return;
+
+        this.lock.lock();
+        try {
+            long pausedUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+            if (pausedUntil - this.pausedUntilNanos > 0)
+                this.pausedUntilNanos = pausedUntil;
+
+            // The server asked us to back off, so resume from an empty bucket instead of bursting when the pause ends.
+            this.tokens = 0;
+            this.lastRefillNanos = this.pausedUntilNanos;
+            this.tokenAvailable.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void takeToken() throws InterruptedException {
+        this.lock.lockInterruptibly();
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                long waitNanos = this.pausedUntilNanos - now;
+                if (waitNanos <= 0) {
+                    refill(now);
+                    if (this.tokens >= 1) {
+                        this.tokens -= 1;
+                        return;
+                    }
+
+                    waitNanos = (long) Math.ceil((1 - this.tokens) * this.nanosPerToken);
+                }
+
+                this.tokenAvailable.awaitNanos(waitNanos);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void refill(long now) {
+        long elapsedNanos = now - this.lastRefillNanos;
+        if (elapsedNanos <= 0)
+            return;
+
+        this.tokens = Math.min(this.burstCapacity, this.tokens + elapsedNanos / this.nanosPerToken);
+        this.lastRefillNanos = now;
+    }
+
+    static final class Permit implements AutoCloseable {
+        private final Semaphore inFlight;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Semaphore inFlight) {
+            this.inFlight = inFlight;
+        }
+
+        @Override
+        public void close() {
+            if (this.released.compareAndSet(false, true))
+                this.inFlight.release();
+        }
+    }
+}
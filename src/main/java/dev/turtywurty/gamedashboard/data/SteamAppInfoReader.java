@@ -0,0 +1,285 @@
+package dev.turtywurty.gamedashboard.data;
+
+import dev.turtywurty.gamedashboard.GameDashboardApp;
+import dev.turtywurty.gamedashboard.data.model.SteamAppInfo;
+import dev.turtywurty.gamedashboard.util.VDFReader;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+// Reads Steam's binary appinfo.vdf cache (format versions 27 to 29) so installed apps can be described without the API.
+final class SteamAppInfoReader {
+    private static final int MAGIC_V27 = 0x07564427;
+    private static final int MAGIC_V28 = 0x07564428;
+    private static final int MAGIC_V29 = 0x07564429;
+
+    private static final byte TYPE_OBJECT = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_INT32 = 2;
+    private static final byte TYPE_FLOAT32 = 3;
+    private static final byte TYPE_POINTER = 4;
+    private static final byte TYPE_WIDE_STRING = 5;
+    private static final byte TYPE_COLOR = 6;
+    private static final byte TYPE_UINT64 = 7;
+    private static final byte TYPE_END = 8;
+    private static final byte TYPE_INT64 = 10;
+    private static final byte TYPE_ALTERNATE_END = 11;
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfFloat FLOAT = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final MemorySegment segment;
+    private final int headerSize;
+    private final long entriesOffset;
+    private final long entriesLimit;
+    // Version 29 stores every key name once in a table at the end of the file and refers to it by index; null before that.
+    private final String[] keyNames;
+
+    private SteamAppInfoReader(MemorySegment segment) {
+        this.segment = segment;
+
+        int magic = segment.get(INT, 0);
+        switch (magic) {
+            case MAGIC_V27, MAGIC_V28 -> {
+                this.headerSize = magic == MAGIC_V27 ? 48 : 68;
+                this.entriesOffset = 8;
+                this.entriesLimit = segment.byteSize();
+                this.keyNames = null;
+            }
+            case MAGIC_V29 -> {
+                long keyNamesOffset = segment.get(LONG, 8);
+                this.headerSize = 68;
+                this.entriesOffset = 16;
+                this.entriesLimit = keyNamesOffset;
+                this.keyNames = readKeyNames(keyNamesOffset);
+            }
+            default -> throw new IllegalArgumentException("Unsupported appinfo.vdf version 0x" + Integer.toHexString(magic));
+        }
+    }
+
+    static Map<Integer, SteamAppInfo> read(Path appInfoPath, Set<Integer> appIds) {
+        if (appIds.isEmpty() || !Files.isRegularFile(appInfoPath))
+            return Map.of();
+
+        // A confined arena unmaps the file as soon as it is read, so Steam is never blocked from replacing it.
+        try (Arena arena = Arena.ofConfined();
+             FileChannel channel = FileChannel.open(appInfoPath, StandardOpenOption.READ)) {
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            return new SteamAppInfoReader(segment).readApps(appIds);
+        } catch (IOException | RuntimeException exception) {
+            GameDashboardApp.LOGGER.warn("Failed to read {}", appInfoPath, exception);
+            return Map.of();
+        }
+    }
+
+    // Entries are length-prefixed, so the reader hops from header to header and only parses the requested apps.
+    private Map<Integer, SteamAppInfo> readApps(Set<Integer> appIds) {
+        Map<Integer, SteamAppInfo> apps = new HashMap<>();
+        long offset = this.entriesOffset;
+        while (offset + 8 <= this.entriesLimit && apps.size() < appIds.size()) {
+            int appId = this.segment.get(INT, offset);
+            if (appId == 0)
+                break;
+
+            long nextOffset = offset + 8 + Integer.toUnsignedLong(this.segment.get(INT, offset + 4));
+            if (appIds.contains(appId)) {
+                try {
+                    var visitor = new AppInfoVisitor();
+                    readObject(offset + this.headerSize, visitor);
+                    if (visitor.name != null && visitor.type != null) {
+                        apps.put(appId, new SteamAppInfo(
+                                appId,
+                                visitor.name,
+                                visitor.type,
+                                visitor.icon,
+                                visitor.libraryCapsule
+                        ));
+                    }
+                } catch (RuntimeException exception) {
+                    GameDashboardApp.LOGGER.debug("Skipping unreadable appinfo entry {}", appId, exception);
+                }
+            }
+
+            offset = nextOffset;
+        }
+
+        return apps;
+    }
+
+    private String[] readKeyNames(long offset) {
+        int count = this.segment.get(INT, offset);
+        String[] keyNames = new String[count];
+        long position = offset + 4;
+        for (int index = 0; index < count; index++) {
+            long end = stringEnd(position);
+            keyNames[index] = decode(position, end);
+            position = end + 1;
+        }
+
+        return keyNames;
+    }
+
+    // Mirrors VDFReader: a null visitor skips the object, which still has to be walked since it carries no length.
+    private long readObject(long offset, VDFReader.Visitor visitor) {
+        while (true) {
+            byte type = this.segment.get(ValueLayout.JAVA_BYTE, offset++);
+            if (type == TYPE_END || type == TYPE_ALTERNATE_END)
+                return offset;
+
+            String key = null;
+            if (this.keyNames != null) {
+                if (visitor != null) {
+                    key = this.keyNames[this.segment.get(INT, offset)];
+                }
+
+                offset += 4;
+            } else {
+                long end = stringEnd(offset);
+                if (visitor != null) {
+                    key = decode(offset, end);
+                }
+
+                offset = end + 1;
+            }
+
+            switch (type) {
+                case TYPE_OBJECT -> {
+                    boolean descend = visitor != null && visitor.startObject(key);
+                    offset = readObject(offset, descend ? visitor : null);
+                    if (descend) {
+                        visitor.endObject();
+                    }
+                }
+                case TYPE_STRING -> {
+                    long end = stringEnd(offset);
+                    if (visitor != null) {
+                        visitor.value(key, decode(offset, end));
+                    }
+
+                    offset = end + 1;
+                }
+                case TYPE_WIDE_STRING -> {
+                    long end = offset;
+                    while (this.segment.get(ValueLayout.JAVA_SHORT_UNALIGNED, end) != 0) {
+                        end += 2;
+                    }
+
+                    if (visitor != null) {
+                        byte[] bytes = this.segment.asSlice(offset, end - offset).toArray(ValueLayout.JAVA_BYTE);
+                        visitor.value(key, new String(bytes, StandardCharsets.UTF_16LE));
+                    }
+
+                    offset = end + 2;
+                }
+                case TYPE_INT32, TYPE_POINTER, TYPE_COLOR -> {
+                    if (visitor != null) {
+                        visitor.value(key, Integer.toString(this.segment.get(INT, offset)));
+                    }
+
+                    offset += 4;
+                }
+                case TYPE_FLOAT32 -> {
+                    if (visitor != null) {
+                        visitor.value(key, Float.toString(this.segment.get(FLOAT, offset)));
+                    }
+
+                    offset += 4;
+                }
+                case TYPE_UINT64 -> {
+                    if (visitor != null) {
+                        visitor.value(key, Long.toUnsignedString(this.segment.get(LONG, offset)));
+                    }
+
+                    offset += 8;
+                }
+                case TYPE_INT64 -> {
+                    if (visitor != null) {
+                        visitor.value(key, Long.toString(this.segment.get(LONG, offset)));
+                    }
+
+                    offset += 8;
+                }
+                default -> throw new IllegalArgumentException("Unknown KeyValues type " + type + " at byte " + (offset - 1));
+            }
+        }
+    }
+
+    private long stringEnd(long offset) {
+        long end = offset;
+        while (this.segment.get(ValueLayout.JAVA_BYTE, end) != 0) {
+            end++;
+        }
+
+        return end;
+    }
+
+    private String decode(long start, long end) {
+        return new String(this.segment.asSlice(start, end - start).toArray(ValueLayout.JAVA_BYTE), StandardCharsets.UTF_8);
+    }
+
+    // Collects appinfo/common/{name, type, icon} and the English library capsule.
+    private static final class AppInfoVisitor implements VDFReader.Visitor {
+        private int depth;
+        private String name;
+        private String type;
+        private String icon;
+        private String libraryCapsule;
+
+        @Override
+        public boolean startObject(CharSequence key) {
+            boolean descend = switch (this.depth) {
+                case 0 -> VDFReader.equalsIgnoreCase(key, "appinfo");
+                case 1 -> VDFReader.equalsIgnoreCase(key, "common");
+                case 2 -> VDFReader.equalsIgnoreCase(key, "library_assets_full");
+                case 3 -> VDFReader.equalsIgnoreCase(key, "library_capsule");
+                case 4 -> VDFReader.equalsIgnoreCase(key, "image");
+                default -> false;
+            };
+
+            if (descend) {
+                this.depth++;
+            }
+
+            return descend;
+        }
+
+        @Override
+        public void endObject() {
+            this.depth--;
+        }
+
+        @Override
+        public void value(CharSequence key, CharSequence value) {
+            switch (this.depth) {
+                case 2 -> {
+                    if (VDFReader.equalsIgnoreCase(key, "name")) {
+                        this.name = value.toString();
+                    } else if (VDFReader.equalsIgnoreCase(key, "type")) {
+                        this.type = value.toString();
+                    } else if (VDFReader.equalsIgnoreCase(key, "icon")) {
+                        this.icon = value.toString();
+                    }
+                }
+                case 5 -> {
+                    if (VDFReader.equalsIgnoreCase(key, "english")) {
+                        this.libraryCapsule = value.toString();
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+    }
+}
@@ -1,61 +1,54 @@
 package dev.turtywurty.gamedashboard.data;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
 import dev.turtywurty.gamedashboard.GameDashboardApp;
 import dev.turtywurty.gamedashboard.data.game.Game;
 import dev.turtywurty.gamedashboard.data.game.impl.SteamGame;
+import dev.turtywurty.gamedashboard.data.model.SteamAppInfo;
+import dev.turtywurty.gamedashboard.data.model.SteamAppState;
+import dev.turtywurty.gamedashboard.data.model.SteamLibraryFolder;
+import dev.turtywurty.gamedashboard.data.model.SteamManifestFingerprint;
+import dev.turtywurty.gamedashboard.data.store.SteamManifestStore;
 import dev.turtywurty.gamedashboard.util.FileSystemsHolder;
 import dev.turtywurty.gamedashboard.util.OSUtils;
 import dev.turtywurty.gamedashboard.util.OperatingSystem;
 import dev.turtywurty.gamedashboard.util.ProgressMonitor;
 import dev.turtywurty.gamedashboard.util.Utils;
-import dev.turtywurty.gamedashboard.util.VDFtoJson;
 import javafx.collections.ObservableList;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 public class SteamHandler {
-    public static Map<Path, List<Integer>> getLibraryFolderGameMap(Path libraryFoldersPath) {
-        try {
-            String content = Files.readString(libraryFoldersPath);
-            JsonObject vdfAsJson = VDFtoJson.toJSONObject(content, true);
-            JsonArray libraryFolders = vdfAsJson.getAsJsonArray("libraryfolders");
+    private static final String STORE_ASSETS_URL = "https://shared.steamstatic.com/store_item_assets/steam/apps/";
+    private static final String COMMUNITY_ICONS_URL = "https://cdn.cloudflare.steamstatic.com/steamcommunity/public/images/apps/";
 
-            Map<Path, List<Integer>> libraryFolderGameMap = new HashMap<>();
-            for (Object libraryFolder : libraryFolders) {
-                if (!(libraryFolder instanceof JsonObject obj))
-                    continue;
+    private final SteamManifestStore manifestStore;
+    private final ReentrantLock syncLock = new ReentrantLock();
 
-                String path = obj.get("path").getAsString();
-                JsonObject apps = obj.get("apps").isJsonArray() ? new JsonObject() : obj.getAsJsonObject("apps");
-                for (String appId : apps.keySet()) {
-                    int id;
-                    try {
-                        id = Integer.parseInt(appId);
-                    } catch (NumberFormatException exception) {
-                        continue;
-                    }
-
-                    if (id < 0)
-                        continue;
+    public SteamHandler(SteamManifestStore manifestStore) {
+        this.manifestStore = manifestStore;
+    }
 
-                    libraryFolderGameMap.computeIfAbsent(Path.of(path), k -> new ArrayList<>()).add(id);
-                }
+    public static Map<Path, List<Integer>> getLibraryFolderGameMap(Path libraryFoldersPath) {
+        Map<Path, List<Integer>> libraryFolderGameMap = new HashMap<>();
+        for (SteamLibraryFolder libraryFolder : SteamManifestReader.readLibraryFolders(libraryFoldersPath)) {
+            if (!libraryFolder.appIds().isEmpty()) {
+                libraryFolderGameMap.computeIfAbsent(libraryFolder.path(), k -> new ArrayList<>()).addAll(libraryFolder.appIds());
             }
-
-            return libraryFolderGameMap;
-        } catch (IOException exception) {
-            GameDashboardApp.LOGGER.error("Failed to read libraryfolders.vdf", exception);
-            return Collections.emptyMap();
         }
+
+        return libraryFolderGameMap;
     }
 
     public static List<Path> findAppManifests(Map<Path, List<Integer>> libraryFolderGameMap) {
@@ -71,55 +64,105 @@ public class SteamHandler {
         return appManifests;
     }
 
-    private static String getExecutionCommand(JsonObject appState) {
-        return appState.get("LauncherPath").getAsString() + " -applaunch " + appState.get("appid").getAsString();
+    private static String getExecutionCommand(SteamAppState appState) {
+        return appState.launcherPath() + " -applaunch " + appState.appId();
     }
 
-    public static Map<String, Supplier<Game>> locateSteamGames(Path libraryFoldersPath) {
-        Map<Path, List<Integer>> libraryFolderGameMap = getLibraryFolderGameMap(libraryFoldersPath);
-        if (libraryFolderGameMap.isEmpty())
-            return Collections.emptyMap();
-
-        List<Path> appManifests = findAppManifests(libraryFolderGameMap);
-
-        List<LocationDetails> nameAndCommands = new ArrayList<>();
+    // Manifests whose modification time and size match the stored fingerprint are not read again.
+    private static Map<String, SteamManifestFingerprint> scanManifests(
+            List<Path> appManifests,
+            Map<String, SteamManifestFingerprint> previousFingerprints,
+            Map<String, LocationDetails> parsedDetails
+    ) {
+        Map<String, SteamManifestFingerprint> fingerprints = new HashMap<>();
         for (Path appManifestPath : appManifests) {
-            String appManifestContent;
+            String key = appManifestPath.toAbsolutePath().toString();
+            BasicFileAttributes attributes;
             try {
-                appManifestContent = Files.readString(appManifestPath);
+                attributes = Files.readAttributes(appManifestPath, BasicFileAttributes.class);
             } catch (IOException exception) {
-                GameDashboardApp.LOGGER.error("Failed to read appmanifest_{}", appManifestPath.getFileName(), exception);
+                GameDashboardApp.LOGGER.error("Failed to read {}", appManifestPath.getFileName(), exception);
                 continue;
             }
 
-            JsonObject appManifestAsJson = VDFtoJson.toJSONObject(appManifestContent, true);
-            JsonObject appState = appManifestAsJson.getAsJsonObject("AppState");
-            String name = appState.get("name").getAsString().trim();
-            String executionCommand = getExecutionCommand(appState);
-            int appId = appState.get("appid").getAsInt();
-            nameAndCommands.add(new LocationDetails(name, executionCommand, appId));
+            long modifiedMillis = attributes.lastModifiedTime().toMillis();
+            long size = attributes.size();
+            SteamManifestFingerprint previous = previousFingerprints.get(key);
+            if (previous != null && previous.isSameFile(modifiedMillis, size)) {
+                fingerprints.put(key, previous);
+                continue;
+            }
+
+            SteamAppState appState = SteamManifestReader.readAppState(appManifestPath);
+            if (appState == null)
+                continue;
+
+            LocationDetails details = toLocationDetails(appState);
+
+            // Steam rewrites manifests on every update, so only a new name is worth another metadata lookup.
+            boolean unmatched = previous != null
+                    && previous.unmatched()
+                    && previous.appId() == details.appId()
+                    && previous.name().equals(details.name());
+            fingerprints.put(key, new SteamManifestFingerprint(
+                    modifiedMillis,
+                    size,
+                    details.appId(),
+                    details.name(),
+                    appState.stateFlags(),
+                    appState.buildId(),
+                    unmatched
+            ));
+            parsedDetails.put(key, details);
         }
 
-        return findGameResults(nameAndCommands);
+        return fingerprints;
+    }
+
+    private static LocationDetails toLocationDetails(SteamAppState appState) {
+        return new LocationDetails(appState.name(), getExecutionCommand(appState), appState.appId());
     }
 
-    private static @NotNull Map<String, Supplier<Game>> findGameResults(List<LocationDetails> nameAndCommands) {
+    private static @NotNull Map<String, Supplier<Game>> findGameResults(
+            List<LocationDetails> nameAndCommands,
+            Map<Integer, SteamAppInfo> appInfos,
+            @Nullable Path appCachePath,
+            Set<Integer> unmatchedAppIds,
+            Queue<CachedGame> cachedGames
+    ) {
         Map<String, Supplier<Game>> futures = new HashMap<>();
         for (LocationDetails locationDetails : nameAndCommands) {
             String name = locationDetails.name();
             String executionCommand = locationDetails.executionCommand();
             int appId = locationDetails.appId();
+            SteamAppInfo appInfo = appInfos.get(appId);
+            if (appInfo != null) {
+                futures.put(name, () -> {
+                    SteamGame game = createCachedGame(locationDetails, appInfo, appCachePath);
+                    cachedGames.add(new CachedGame(locationDetails, game));
+                    return game;
+                });
+                continue;
+            }
+
+            // Requests are started eagerly so the API connector can coalesce them into batched round trips.
+            CompletableFuture<Integer> igdbIdFuture = APIConnector.getGameIdFromExternalId(
+                    APIConnector.ExternalPlatform.STEAM,
+                    String.valueOf(appId)
+            );
+            CompletableFuture<APIConnector.GameResult> gameResultFuture = igdbIdFuture.thenCompose(igdbId ->
+                    igdbId == null
+                            ? CompletableFuture.<APIConnector.GameResult>completedFuture(null)
+                            : APIConnector.getGameByID(igdbId, true, true));
 
             futures.put(name, () -> {
                 GameDashboardApp.LOGGER.info("Fetching game details for {} (AppID: {})...", name, appId);
                 APIConnector.GameResult gameResult;
                 Integer igdbId;
                 try {
-                    igdbId = APIConnector.getGameIdFromExternalId(
-                            APIConnector.ExternalPlatform.STEAM,
-                            String.valueOf(appId)
-                    ).join();
+                    igdbId = igdbIdFuture.join();
                     if (igdbId == null) {
+                        unmatchedAppIds.add(appId);
                         GameDashboardApp.LOGGER.info(
                                 "Skipping {} (AppID: {}): game does not exist in the metadata database",
                                 name,
@@ -128,13 +171,14 @@ public class SteamHandler {
                         return null;
                     }
 
-                    gameResult = APIConnector.getGameByID(igdbId, false, true).join();
+                    gameResult = gameResultFuture.join();
                 } catch (Exception exception) {
                     GameDashboardApp.LOGGER.error("Failed to fetch game details for {} (AppID: {})", name, appId, exception);
                     return null;
                 }
 
                 if (gameResult == null) {
+                    unmatchedAppIds.add(appId);
                     GameDashboardApp.LOGGER.info(
                             "Skipping {} (AppID: {}): game metadata no longer exists",
                             name,
@@ -143,7 +187,8 @@ public class SteamHandler {
                     return null;
                 }
 
-                return SteamGame.builder(name, gameResult.getSummary(), executionCommand, appId)
+                String description = gameResult.getSummary() == null ? "" : gameResult.getSummary();
+                return SteamGame.builder(name, description, executionCommand, appId)
                         .images(gameResult.getThumbCoverURL(), gameResult.getCoverURL())
                         .igdbGameId(igdbId)
                         .nickname(name)
@@ -154,39 +199,143 @@ public class SteamHandler {
         return futures;
     }
 
+    // Steam already knows the app is a game, so it is built from its cache alone and kept even when IGDB has no entry.
+    private static SteamGame createCachedGame(
+            LocationDetails locationDetails,
+            SteamAppInfo appInfo,
+            @Nullable Path appCachePath
+    ) {
+        int appId = locationDetails.appId();
+        String capsule = appInfo.libraryCapsule() == null || appInfo.libraryCapsule().isBlank()
+                ? "library_600x900.jpg"
+                : appInfo.libraryCapsule();
+        String coverURL = findCachedImage(appCachePath, appId, capsule, "library_600x900.jpg",
+                STORE_ASSETS_URL + appId + "/" + capsule);
+        String thumbCoverURL = appInfo.icon() == null || appInfo.icon().isBlank()
+                ? coverURL
+                : findCachedImage(appCachePath, appId, appInfo.icon() + ".jpg", "icon.jpg",
+                COMMUNITY_ICONS_URL + appId + "/" + appInfo.icon() + ".jpg");
+
+        return SteamGame.builder(locationDetails.name(), "", locationDetails.executionCommand(), appId)
+                .images(thumbCoverURL, coverURL)
+                .nickname(locationDetails.name())
+                .build();
+    }
+
+    // Games built from appinfo.vdf are shown straight away; their IGDB ID and summary are filled in afterwards.
+    private static void fillIgdbDetails(Collection<CachedGame> cachedGames) {
+        if (cachedGames.isEmpty())
+            return;
+
+        Thread.ofVirtual().name("steam-igdb-details").start(() -> {
+            // Requests are started together so the API connector can coalesce them into batched round trips.
+            Map<CachedGame, CompletableFuture<Integer>> igdbIdFutures = new LinkedHashMap<>();
+            for (CachedGame cachedGame : cachedGames) {
+                igdbIdFutures.put(cachedGame, APIConnector.getGameIdFromExternalId(
+                        APIConnector.ExternalPlatform.STEAM,
+                        String.valueOf(cachedGame.details().appId())
+                ));
+            }
+
+            // Their artwork comes from Steam's cache, so IGDB only supplies the summary.
+            Map<CachedGame, CompletableFuture<APIConnector.GameResult>> gameResultFutures = new LinkedHashMap<>();
+            igdbIdFutures.forEach((cachedGame, igdbIdFuture) -> gameResultFutures.put(
+                    cachedGame,
+                    igdbIdFuture.thenCompose(igdbId -> igdbId == null
+                            ? CompletableFuture.<APIConnector.GameResult>completedFuture(null)
+                            : APIConnector.getGameByID(igdbId, true, false))
+            ));
+
+            List<Game> detailedGames = new ArrayList<>();
+            gameResultFutures.forEach((cachedGame, gameResultFuture) -> {
+                LocationDetails details = cachedGame.details();
+                try {
+                    APIConnector.GameResult gameResult = gameResultFuture.join();
+                    if (gameResult == null)
+                        return;
+
+                    String description = gameResult.getSummary() == null ? "" : gameResult.getSummary();
+                    detailedGames.add(SteamGame.builder(details.name(), description, details.executionCommand(), details.appId())
+                            .images(cachedGame.game().getThumbCoverImageURL(), cachedGame.game().getCoverImageURL())
+                            .igdbGameId(igdbIdFutures.get(cachedGame).join())
+                            .nickname(cachedGame.game().getNickname())
+                            .build());
+                } catch (RuntimeException exception) {
+                    GameDashboardApp.LOGGER.warn("Failed to fetch game details for {} (AppID: {})", details.name(), details.appId(), exception);
+                }
+            });
+
+            Utils.runOnFxThread(() -> {
+                // Games uninstalled while their details were being fetched are not brought back.
+                Database database = Database.getInstance();
+                database.mergeGames(detailedGames.stream().filter(database::containsGame).toList());
+            });
+        });
+    }
+
+    // Newer clients keep artwork under librarycache/<appid>/, older ones as librarycache/<appid>_<file>.
+    private static String findCachedImage(
+            @Nullable Path appCachePath,
+            int appId,
+            String fileName,
+            String legacyFileName,
+            String remoteURL
+    ) {
+        if (appCachePath == null)
+            return remoteURL;
+
+        try {
+            Path libraryCachePath = appCachePath.resolve("librarycache");
+            for (Path candidate : List.of(
+                    libraryCachePath.resolve(Integer.toString(appId)).resolve(fileName),
+                    libraryCachePath.resolve(appId + "_" + legacyFileName)
+            )) {
+                if (Files.isRegularFile(candidate))
+                    return candidate.toUri().toString();
+            }
+        } catch (InvalidPathException exception) {
+            GameDashboardApp.LOGGER.debug("Invalid Steam library cache file {}", fileName, exception);
+        }
+
+        return remoteURL;
+    }
+
+    private static @Nullable Path getAppCachePath(Path libraryFoldersPath) {
+        Path steamAppsPath = libraryFoldersPath.toAbsolutePath().getParent();
+        Path steamRoot = steamAppsPath == null ? null : steamAppsPath.getParent();
+        return steamRoot == null ? null : steamRoot.resolve("appcache");
+    }
+
     private static void loadGames(
             Map<String, Supplier<Game>> futures,
-            ObservableList<Game> games,
             ObservableList<String> loadingGames,
             ProgressMonitor progressMonitor
     ) {
-
-        try (ExecutorService executorService = Executors.newFixedThreadPool(2)) {
+        // Placeholders are cleared in the same FX pulse that adds their games, so tiles do not flicker out and back.
+        try (var batch = new GameBatch(merged -> loadingGames.removeAll(merged.stream().map(Game::getTitle).toList()));
+             var tasks = DiscoveryScheduler.getInstance().open(
+                     "Steam",
+                     Objects.requireNonNullElse(progressMonitor, ProgressMonitor.NONE)
+             )) {
             for (Map.Entry<String, Supplier<Game>> entry : futures.entrySet()) {
                 String name = entry.getKey();
                 Supplier<Game> futureSupplier = entry.getValue();
-                executorService.submit(() -> {
+                tasks.submit(() -> {
                     try {
                         Game game = futureSupplier.get();
-
-                        Utils.runOnFxThread(() -> {
-                            if (game == null) {
+                        if (game == null) {
+                            Utils.runOnFxThread(() -> {
                                 GameDashboardApp.LOGGER.warn("Failed to load game {}", name);
-                            } else {
-                                games.add(game);
-                            }
-
-                            loadingGames.remove(name);
-                        });
+                                loadingGames.remove(name);
+                            });
+                        } else {
+                            batch.add(game);
+                        }
                     } catch (Exception exception) {
                         Utils.runOnFxThread(() -> {
                             GameDashboardApp.LOGGER.error("Error loading game {}", name, exception);
                             loadingGames.remove(name);
                         });
-                    } finally {
-                        if (progressMonitor != null) {
-                            progressMonitor.worked(1);
-                        }
                     }
                 });
             }
@@ -397,36 +546,146 @@ public class SteamHandler {
         if (!isSteamConfigurationValid(executable, libraryFoldersPath))
             return;
 
-        Utils.runOnFxThread(() -> games.removeIf(SteamGame.class::isInstance));
-
-        Map<String, Supplier<Game>> steamGames = locateSteamGames(libraryFoldersPath);
-        if (steamGames.isEmpty()) {
-            if (progressMonitor != null) {
-                progressMonitor.done();
+        Runnable syncAction = () -> {
+            // Watcher-triggered and manual syncs share the fingerprint store, so they run one at a time.
+            this.syncLock.lock();
+            try {
+                syncGames(libraryFoldersPath, games, loadingGames, progressMonitor);
+            } finally {
+                this.syncLock.unlock();
+                if (progressMonitor != null) {
+                    progressMonitor.done();
+                }
             }
+        };
 
+        if (progressMonitor == null) {
+            Thread.ofVirtual().name("steam-sync").start(syncAction);
+        } else {
+            syncAction.run();
+        }
+    }
+
+    private void syncGames(
+            Path libraryFoldersPath,
+            ObservableList<Game> games,
+            ObservableList<String> loadingGames,
+            ProgressMonitor progressMonitor
+    ) {
+        Map<Path, List<Integer>> libraryFolderGameMap = getLibraryFolderGameMap(libraryFoldersPath);
+        if (libraryFolderGameMap.isEmpty())
             return;
+
+        Map<String, LocationDetails> parsedDetails = new HashMap<>();
+        Map<String, SteamManifestFingerprint> fingerprints = scanManifests(
+                findAppManifests(libraryFolderGameMap),
+                this.manifestStore.load(),
+                parsedDetails
+        );
+
+        Set<Integer> installedAppIds = new HashSet<>();
+        for (SteamManifestFingerprint fingerprint : fingerprints.values()) {
+            installedAppIds.add(fingerprint.appId());
+        }
+
+        Map<Integer, SteamGame> existingGames = snapshotSteamGames(games);
+        Utils.runOnFxThread(() -> games.removeIf(game ->
+                game instanceof SteamGame steamGame && !installedAppIds.contains(steamGame.getSteamAppId())));
+
+        List<LocationDetails> unresolved = new ArrayList<>();
+        Map<Integer, String> manifestKeys = new HashMap<>();
+        for (Map.Entry<String, SteamManifestFingerprint> entry : fingerprints.entrySet()) {
+            SteamManifestFingerprint fingerprint = entry.getValue();
+            SteamGame existingGame = existingGames.get(fingerprint.appId());
+            boolean upToDate = existingGame == null
+                    ? fingerprint.unmatched()
+                    : existingGame.getTitle().equals(fingerprint.name());
+            if (upToDate)
+                continue;
+
+            LocationDetails details = parsedDetails.get(entry.getKey());
+            if (details == null) {
+                SteamAppState appState = SteamManifestReader.readAppState(Path.of(entry.getKey()));
+                details = appState == null ? null : toLocationDetails(appState);
+            }
+
+            if (details != null) {
+                unresolved.add(details);
+                manifestKeys.put(details.appId(), entry.getKey());
+            }
         }
 
-        if (progressMonitor != null) {
-            progressMonitor.start("Loading Steam games", steamGames.size());
+        GameDashboardApp.LOGGER.info(
+                "Steam sync: {} installed, {} reparsed, {} to resolve",
+                fingerprints.size(),
+                parsedDetails.size(),
+                unresolved.size()
+        );
+        if (unresolved.isEmpty()) {
+            this.manifestStore.save(fingerprints);
+            return;
         }
 
-        Utils.runOnFxThread(() -> loadingGames.addAll(steamGames.keySet()));
-        Runnable loadAction = () -> {
-            loadGames(steamGames, games, loadingGames, progressMonitor);
+        Set<Integer> unmatchedAppIds = ConcurrentHashMap.newKeySet();
+        Path appCachePath = getAppCachePath(libraryFoldersPath);
+        Map<Integer, SteamAppInfo> appInfos = appCachePath == null
+                ? Map.of()
+                : SteamAppInfoReader.read(appCachePath.resolve("appinfo.vdf"), manifestKeys.keySet());
+
+        // Tools, runtimes and redistributables never match IGDB, so they are skipped without asking it.
+        unresolved.removeIf(details -> {
+            SteamAppInfo appInfo = appInfos.get(details.appId());
+            if (appInfo == null || appInfo.isGame())
+                return false;
+
+            unmatchedAppIds.add(details.appId());
+            return true;
+        });
+        GameDashboardApp.LOGGER.info(
+                "Steam sync: {} described by appinfo.vdf, {} skipped as non-games",
+                appInfos.size(),
+                unmatchedAppIds.size()
+        );
+
+        Queue<CachedGame> cachedGames = new ConcurrentLinkedQueue<>();
+        Map<String, Supplier<Game>> steamGames =
+                findGameResults(unresolved, appInfos, appCachePath, unmatchedAppIds, cachedGames);
+        if (!steamGames.isEmpty()) {
             if (progressMonitor != null) {
-                progressMonitor.done();
+                progressMonitor.start("Loading Steam games", steamGames.size());
             }
-        };
 
-        if (progressMonitor == null) {
-            new Thread(loadAction).start();
-        } else {
-            loadAction.run();
+            Utils.runOnFxThread(() -> loadingGames.addAll(steamGames.keySet()));
+            loadGames(steamGames, loadingGames, progressMonitor);
+            fillIgdbDetails(cachedGames);
         }
+
+        for (int appId : unmatchedAppIds) {
+            String key = manifestKeys.get(appId);
+            if (key != null) {
+                fingerprints.computeIfPresent(key, (ignored, fingerprint) -> fingerprint.withUnmatched(true));
+            }
+        }
+
+        this.manifestStore.save(fingerprints);
+    }
+
+    private static Map<Integer, SteamGame> snapshotSteamGames(ObservableList<Game> games) {
+        return Utils.callOnFxThread(() -> {
+            Map<Integer, SteamGame> steamGames = new HashMap<>();
+            for (Game game : games) {
+                if (game instanceof SteamGame steamGame) {
+                    steamGames.put(steamGame.getSteamAppId(), steamGame);
+                }
+            }
+
+            return steamGames;
+        });
     }
 
     public record LocationDetails(String name, String executionCommand, int appId) {
     }
+
+    private record CachedGame(LocationDetails details, SteamGame game) {
+    }
 }
@@ -0,0 +1,161 @@
+package dev.turtywurty.gamedashboard.data;
+
+import dev.turtywurty.gamedashboard.GameDashboardApp;
+import dev.turtywurty.gamedashboard.data.model.SteamAppState;
+import dev.turtywurty.gamedashboard.data.model.SteamLibraryFolder;
+import dev.turtywurty.gamedashboard.util.VDFReader;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Binds Steam's text KeyValues files straight to records, reading only the keys the dashboard uses.
+final class SteamManifestReader {
+    private SteamManifestReader() {
+    }
+
+    static @Nullable SteamAppState readAppState(Path appManifestPath) {
+        var visitor = new AppStateVisitor();
+        try {
+            VDFReader.read(appManifestPath, visitor);
+        } catch (IOException | RuntimeException exception) {
+            GameDashboardApp.LOGGER.error("Failed to read {}", appManifestPath.getFileName(), exception);
+            return null;
+        }
+
+        if (visitor.appId < 0 || visitor.name == null || visitor.launcherPath == null) {
+            GameDashboardApp.LOGGER.error("Malformed {}", appManifestPath.getFileName());
+            return null;
+        }
+
+        return new SteamAppState(
+                visitor.appId,
+                visitor.name.trim(),
+                visitor.launcherPath,
+                visitor.installDir == null ? "" : visitor.installDir,
+                visitor.stateFlags,
+                visitor.buildId == null ? "" : visitor.buildId
+        );
+    }
+
+    static List<SteamLibraryFolder> readLibraryFolders(Path libraryFoldersPath) {
+        var visitor = new LibraryFoldersVisitor();
+        try {
+            VDFReader.read(libraryFoldersPath, visitor);
+        } catch (IOException | RuntimeException exception) {
+            GameDashboardApp.LOGGER.error("Failed to read libraryfolders.vdf", exception);
+            return Collections.emptyList();
+        }
+
+        return visitor.libraryFolders;
+    }
+
+    private static int parseInt(CharSequence value, int fallback) {
+        try {
+            return Integer.parseInt(value, 0, value.length(), 10);
+        } catch (NumberFormatException exception) {
+            return fallback;
+        }
+    }
+
+    private static final class AppStateVisitor implements VDFReader.Visitor {
+        private int depth;
+        private int appId = -1;
+        private String name;
+        private String launcherPath;
+        private String installDir;
+        private int stateFlags;
+        private String buildId;
+
+        // Depot, workshop and config sections make up most of a manifest, and are skipped unread.
+        @Override
+        public boolean startObject(CharSequence key) {
+            if (this.depth != 0 || !VDFReader.equalsIgnoreCase(key, "AppState"))
+                return false;
+
+            this.depth++;
+            return true;
+        }
+
+        @Override
+        public void endObject() {
+            this.depth--;
+        }
+
+        @Override
+        public void value(CharSequence key, CharSequence value) {
+            if (this.depth != 1)
+                return;
+
+            if (VDFReader.equalsIgnoreCase(key, "appid")) {
+                this.appId = parseInt(value, -1);
+            } else if (VDFReader.equalsIgnoreCase(key, "name")) {
+                this.name = value.toString();
+            } else if (VDFReader.equalsIgnoreCase(key, "LauncherPath")) {
+                this.launcherPath = value.toString();
+            } else if (VDFReader.equalsIgnoreCase(key, "installdir")) {
+                this.installDir = value.toString();
+            } else if (VDFReader.equalsIgnoreCase(key, "StateFlags")) {
+                this.stateFlags = parseInt(value, 0);
+            } else if (VDFReader.equalsIgnoreCase(key, "buildid")) {
+                this.buildId = value.toString();
+            }
+        }
+    }
+
+    // Depth 1 is the libraryfolders section, 2 a library folder and 3 the folder's apps.
+    private static final class LibraryFoldersVisitor implements VDFReader.Visitor {
+        private final List<SteamLibraryFolder> libraryFolders = new ArrayList<>();
+        private int depth;
+        private String path;
+        private List<Integer> appIds;
+
+        @Override
+        public boolean startObject(CharSequence key) {
+            boolean descend = switch (this.depth) {
+                case 0 -> VDFReader.equalsIgnoreCase(key, "libraryfolders");
+                case 1 -> {
+                    this.path = null;
+                    this.appIds = new ArrayList<>();
+                    yield true;
+                }
+                case 2 -> VDFReader.equalsIgnoreCase(key, "apps");
+                default -> false;
+            };
+
+            if (descend) {
+                this.depth++;
+            }
+
+            return descend;
+        }
+
+        @Override
+        public void endObject() {
+            if (this.depth-- != 2 || this.path == null)
+                return;
+
+            try {
+                this.libraryFolders.add(new SteamLibraryFolder(Path.of(this.path), List.copyOf(this.appIds)));
+            } catch (InvalidPathException exception) {
+                GameDashboardApp.LOGGER.warn("Skipping Steam library folder with invalid path {}", this.path, exception);
+            }
+        }
+
+        @Override
+        public void value(CharSequence key, CharSequence value) {
+            if (this.depth == 2 && VDFReader.equalsIgnoreCase(key, "path")) {
+                this.path = value.toString();
+            } else if (this.depth == 3) {
+                int appId = parseInt(key, -1);
+                if (appId >= 0) {
+                    this.appIds.add(appId);
+                }
+            }
+        }
+    }
+}
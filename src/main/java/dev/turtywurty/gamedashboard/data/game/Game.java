@@ -7,6 +7,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @Data
@@ -64,6 +65,21 @@ public class Game {
         return this.launchTarget.equals(game.getLaunchTarget());
     }
 
+    // Every game this one matches() shares one of these keys or its launch target, so matches can be found by lookup.
+    public List<Object> matchKeys() {
+        return List.of();
+    }
+
+    protected final List<Object> matchKey(String name, @Nullable String value) {
+        return value == null || value.isBlank()
+                ? List.of()
+                : List.of(new MatchKey(this.type, name, value.toLowerCase(Locale.ROOT)));
+    }
+
+    protected final List<Object> matchKey(String name, long value) {
+        return List.of(new MatchKey(this.type, name, value));
+    }
+
     public Optional<ProcessHandle> findPossibleProcess(List<ProcessHandle> processes) {
         if (!(this.launchTarget instanceof ExecutableLaunchTarget executableLaunchTarget))
             return Optional.empty();
@@ -77,4 +93,7 @@ public class Game {
 
         return Optional.empty();
     }
+
+    private record MatchKey(String type, String name, Object value) {
+    }
 }
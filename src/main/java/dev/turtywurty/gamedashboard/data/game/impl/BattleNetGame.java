@@ -6,12 +6,17 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.file.Path;
+import java.util.List;
+
 @EqualsAndHashCode(callSuper = true)
 @Data
 public final class BattleNetGame extends Game {
     private final String productCode;
     private final String uid;
     private final String installPath;
+    // The launcher database the game was read from; null for games imported before it was recorded.
+    private String databasePath;
 
     public BattleNetGame(
             String title,
@@ -51,6 +56,11 @@ public final class BattleNetGame extends Game {
                 this.productCode.equalsIgnoreCase(other.productCode);
     }
 
+    @Override
+    public List<Object> matchKeys() {
+        return matchKey("productCode", this.productCode);
+    }
+
     public static Builder builder(
             String title,
             String description,
@@ -74,6 +84,7 @@ public final class BattleNetGame extends Game {
         private String coverImageURL;
         private Integer igdbGameId;
         private String nickname;
+        private String databasePath;
 
         public Builder(
                 String title,
@@ -107,6 +118,11 @@ public final class BattleNetGame extends Game {
             return this;
         }
 
+        public Builder databasePath(Path databasePath) {
+            this.databasePath = databasePath.toAbsolutePath().normalize().toString();
+            return this;
+        }
+
         public BattleNetGame build() {
             var game = new BattleNetGame(
                     this.title,
@@ -120,6 +136,7 @@ public final class BattleNetGame extends Game {
             game.setCoverImageURL(this.coverImageURL);
             game.setIgdbGameId(this.igdbGameId);
             game.setNickname(this.nickname);
+            game.setDatabasePath(this.databasePath);
             return game;
         }
     }
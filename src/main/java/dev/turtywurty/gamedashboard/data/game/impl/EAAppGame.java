@@ -8,6 +8,7 @@ import lombok.EqualsAndHashCode;
 import org.jetbrains.annotations.Nullable;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 @EqualsAndHashCode(callSuper = true)
@@ -55,6 +56,13 @@ public final class EAAppGame extends Game {
         return this.installDataPath.equalsIgnoreCase(eaAppGame.installDataPath);
     }
 
+    @Override
+    public List<Object> matchKeys() {
+        List<Object> keys = new ArrayList<>(matchKey("softwareId", this.softwareId));
+        keys.addAll(matchKey("installDataPath", this.installDataPath));
+        return keys;
+    }
+
     private static LaunchTarget executableTarget(String executionCommand) {
         Path executable = Path.of(executionCommand);
         return new ExecutableLaunchTarget(executable, List.of(), executable.getParent());
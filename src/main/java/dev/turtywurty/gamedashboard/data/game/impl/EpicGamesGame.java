@@ -35,6 +35,11 @@ public final class EpicGamesGame extends Game {
         return game instanceof EpicGamesGame epicGamesGame && this.epicManifestPath.equals(epicGamesGame.epicManifestPath);
     }
 
+    @Override
+    public List<Object> matchKeys() {
+        return matchKey("epicManifestPath", this.epicManifestPath);
+    }
+
     private static LaunchTarget executableTarget(String executionCommand) {
         Path executable = Path.of(executionCommand);
         return new ExecutableLaunchTarget(executable, List.of(), executable.getParent());
@@ -6,12 +6,17 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.file.Path;
+import java.util.List;
+
 @EqualsAndHashCode(callSuper = true)
 @Data
 public final class GOGGame extends Game {
     private final long productId;
     private final String url;
     private final String slug;
+    // The launcher database the game was read from; null for games imported before it was recorded.
+    private String databasePath;
 
     public GOGGame(String title, String description, String executionCommand, String thumbCoverImageURL, String coverImageURL, String nickname, long productId, String url, String slug) {
         super(title, description, ExecutableLaunchTarget.fromCommand(executionCommand), thumbCoverImageURL, coverImageURL, nickname, "gog");
@@ -36,6 +41,11 @@ public final class GOGGame extends Game {
         return game instanceof GOGGame gogGame && this.productId == gogGame.productId;
     }
 
+    @Override
+    public List<Object> matchKeys() {
+        return matchKey("productId", this.productId);
+    }
+
     public static Builder builder(String title, String description, String executionCommand, long productId, String url, String slug) {
         return new Builder(title, description, executionCommand, productId, url, slug);
     }
@@ -52,6 +62,7 @@ public final class GOGGame extends Game {
         private String coverImageURL;
         private Integer igdbGameId;
         private String nickname;
+        private String databasePath;
 
         public Builder(String title, String description, String executionCommand, long productId, String url, String slug) {
             this.title = title;
@@ -88,12 +99,18 @@ public final class GOGGame extends Game {
             return this;
         }
 
+        public Builder databasePath(Path databasePath) {
+            this.databasePath = databasePath.toAbsolutePath().normalize().toString();
+            return this;
+        }
+
         public GOGGame build() {
             var game = new GOGGame(title, description, executionCommand, productId, url, slug);
             game.setThumbCoverImageURL(thumbCoverImageURL);
             game.setCoverImageURL(coverImageURL);
             game.setIgdbGameId(igdbGameId);
             game.setNickname(nickname);
+            game.setDatabasePath(databasePath);
             return game;
         }
     }
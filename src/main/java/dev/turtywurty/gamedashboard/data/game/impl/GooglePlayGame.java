@@ -6,6 +6,8 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
+
 @EqualsAndHashCode(callSuper = true)
 @Data
 public final class GooglePlayGame extends Game {
@@ -46,6 +48,11 @@ public final class GooglePlayGame extends Game {
                 && this.packageName.equalsIgnoreCase(googlePlayGame.packageName);
     }
 
+    @Override
+    public List<Object> matchKeys() {
+        return matchKey("packageName", this.packageName);
+    }
+
     public static Builder builder(
             String title,
             String description,
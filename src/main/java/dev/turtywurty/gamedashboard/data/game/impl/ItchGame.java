@@ -6,6 +6,9 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.file.Path;
+import java.util.List;
+
 @EqualsAndHashCode(callSuper = true)
 @Data
 public final class ItchGame extends Game {
@@ -13,6 +16,8 @@ public final class ItchGame extends Game {
     private final String caveId;
     private final String url;
     private final String installPath;
+    // The launcher database the game was read from; null for games imported before it was recorded.
+    private String databasePath;
 
     public ItchGame(
             String title,
@@ -39,6 +44,11 @@ public final class ItchGame extends Game {
         return game instanceof ItchGame itchGame && this.caveId.equals(itchGame.caveId);
     }
 
+    @Override
+    public List<Object> matchKeys() {
+        return matchKey("caveId", this.caveId);
+    }
+
     public static Builder builder(
             String title,
             String description,
@@ -64,6 +74,7 @@ public final class ItchGame extends Game {
         private String coverImageURL;
         private Integer igdbGameId;
         private String nickname;
+        private String databasePath;
 
         public Builder(
                 String title,
@@ -109,12 +120,18 @@ public final class ItchGame extends Game {
             return this;
         }
 
+        public Builder databasePath(Path databasePath) {
+            this.databasePath = databasePath.toAbsolutePath().normalize().toString();
+            return this;
+        }
+
         public ItchGame build() {
             var game = new ItchGame(title, description, launchTarget, gameId, caveId, url, installPath);
             game.setThumbCoverImageURL(thumbCoverImageURL);
             game.setCoverImageURL(coverImageURL);
             game.setIgdbGameId(igdbGameId);
             game.setNickname(nickname);
+            game.setDatabasePath(databasePath);
             return game;
         }
     }
@@ -6,6 +6,8 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
+
 @EqualsAndHashCode(callSuper = true)
 @Data
 public final class MicrosoftStoreGame extends Game {
@@ -51,6 +53,11 @@ public final class MicrosoftStoreGame extends Game {
         return super.matches(game);
     }
 
+    @Override
+    public List<Object> matchKeys() {
+        return matchKey("packageFamilyName", this.packageFamilyName);
+    }
+
     public static Builder builder(
             String title,
             String description,
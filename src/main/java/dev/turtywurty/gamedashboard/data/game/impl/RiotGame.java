@@ -45,6 +45,12 @@ public final class RiotGame extends Game {
         return super.matches(game);
     }
 
+    @Override
+    public List<Object> matchKeys() {
+        String product = this.productId == null || this.patchline == null ? null : this.productId + "/" + this.patchline;
+        return matchKey("product", product);
+    }
+
     private static LaunchTarget launchTarget(String launcherExecutable, String productId, String patchline) {
         Path launcher = Path.of(launcherExecutable);
         return new ExecutableLaunchTarget(
@@ -33,6 +33,11 @@ public final class SteamGame extends Game {
         return game instanceof SteamGame steamGame && this.steamAppId == steamGame.steamAppId;
     }
 
+    @Override
+    public List<Object> matchKeys() {
+        return matchKey("steamAppId", this.steamAppId);
+    }
+
     @Override
     public Optional<ProcessHandle> findPossibleProcess(List<ProcessHandle> processes) {
         return processes.stream()
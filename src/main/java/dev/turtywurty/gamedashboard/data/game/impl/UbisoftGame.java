@@ -45,6 +45,11 @@ public final class UbisoftGame extends Game {
         return super.matches(game);
     }
 
+    @Override
+    public List<Object> matchKeys() {
+        return matchKey("ubisoftGameId", this.ubisoftGameId);
+    }
+
     private static LaunchTarget launchTarget(int ubisoftGameId, String launcherExecutable) {
         Path launcher = launcherExecutable == null || launcherExecutable.isBlank()
                 ? null
@@ -4,6 +4,7 @@ import com.google.gson.annotations.SerializedName;
 import dev.turtywurty.gamedashboard.data.game.Game;
 
 import java.util.List;
+import java.util.Map;
 
 public record DashboardConfig(
         @SerializedName(value = "steamExecutable", alternate = "steamLocation")
@@ -11,6 +12,7 @@ public record DashboardConfig(
         String steamLibraryFolders,
         @SerializedName(value = "epicGamesInstallLocations", alternate = "epicInstallLocations")
         List<String> epicInstallLocations,
+        Map<String, List<String>> librarySources,
         boolean onboardingComplete
 ) {
 }
@@ -0,0 +1,15 @@
+package dev.turtywurty.gamedashboard.data.model;
+
+import org.jetbrains.annotations.Nullable;
+
+public record SteamAppInfo(
+        int appId,
+        String name,
+        String type,
+        @Nullable String icon,
+        @Nullable String libraryCapsule
+) {
+    public boolean isGame() {
+        return "game".equalsIgnoreCase(this.type);
+    }
+}
@@ -0,0 +1,11 @@
+package dev.turtywurty.gamedashboard.data.model;
+
+public record SteamAppState(
+        int appId,
+        String name,
+        String launcherPath,
+        String installDir,
+        int stateFlags,
+        String buildId
+) {
+}
@@ -0,0 +1,7 @@
+package dev.turtywurty.gamedashboard.data.model;
+
+import java.nio.file.Path;
+import java.util.List;
+
+public record SteamLibraryFolder(Path path, List<Integer> appIds) {
+}
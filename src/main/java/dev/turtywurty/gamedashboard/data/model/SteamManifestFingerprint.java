@@ -0,0 +1,27 @@
+package dev.turtywurty.gamedashboard.data.model;
+
+public record SteamManifestFingerprint(
+        long modifiedMillis,
+        long size,
+        int appId,
+        String name,
+        int stateFlags,
+        String buildId,
+        boolean unmatched
+) {
+    public boolean isSameFile(long modifiedMillis, long size) {
+        return this.modifiedMillis == modifiedMillis && this.size == size;
+    }
+
+    public SteamManifestFingerprint withUnmatched(boolean unmatched) {
+        return new SteamManifestFingerprint(
+                this.modifiedMillis,
+                this.size,
+                this.appId,
+                this.name,
+                this.stateFlags,
+                this.buildId,
+                unmatched
+        );
+    }
+}
@@ -10,12 +10,14 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 public final class ConfigStore {
     private static final String FILE_NAME = "config.json";
-    private static final DashboardConfig DEFAULT_CONFIG = new DashboardConfig("", "", List.of(), false);
+    private static final DashboardConfig DEFAULT_CONFIG = new DashboardConfig("", "", List.of(), Map.of(), false);
 
     private final Gson gson;
     private final Path configPath;
@@ -69,7 +71,23 @@ public final class ConfigStore {
                 : config.epicInstallLocations().stream()
                 .filter(location -> location != null && !location.isBlank())
                 .toList();
-        return new DashboardConfig(steamExecutable, steamLibraryFolders, epicInstallLocations, config.onboardingComplete());
+        Map<String, List<String>> librarySources = new LinkedHashMap<>();
+        if (config.librarySources() != null) {
+            config.librarySources().forEach((gameType, sources) -> {
+                if (gameType != null && sources != null)
+                    librarySources.put(gameType, sources.stream()
+                            .filter(source -> source != null && !source.isBlank())
+                            .toList());
+            });
+        }
+
+        return new DashboardConfig(
+                steamExecutable,
+                steamLibraryFolders,
+                epicInstallLocations,
+                librarySources,
+                config.onboardingComplete()
+        );
     }
 
     private static String normalizeSteamExecutable(String configuredExecutable) {
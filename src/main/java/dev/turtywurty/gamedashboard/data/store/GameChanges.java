@@ -0,0 +1,43 @@
+package dev.turtywurty.gamedashboard.data.store;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+// The rows written and removed since the last save, keyed by the row each game is stored under.
+public final class GameChanges {
+    private final Map<String, GameRow> upserts = new LinkedHashMap<>();
+    private final Set<String> removedKeys = new LinkedHashSet<>();
+
+    public void upsert(GameRow row) {
+        this.removedKeys.remove(row.key());
+        this.upserts.put(row.key(), row);
+    }
+
+    public void remove(String key) {
+        this.upserts.remove(key);
+        this.removedKeys.add(key);
+    }
+
+    // Folds later changes into these ones; a later change to the same row replaces the earlier one.
+    public GameChanges mergeWith(GameChanges later) {
+        later.removedKeys.forEach(this::remove);
+        later.upserts.values().forEach(this::upsert);
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return this.upserts.isEmpty() && this.removedKeys.isEmpty();
+    }
+
+    Collection<GameRow> upserts() {
+        return Collections.unmodifiableCollection(this.upserts.values());
+    }
+
+    Set<String> removedKeys() {
+        return Collections.unmodifiableSet(this.removedKeys);
+    }
+}
@@ -0,0 +1,14 @@
+package dev.turtywurty.gamedashboard.data.store;
+
+import org.jetbrains.annotations.Nullable;
+
+// A game as it is written to the store, taken on the thread that owns the game so the writer never reads a live one.
+public record GameRow(
+        String key,
+        String type,
+        String title,
+        @Nullable Integer igdbGameId,
+        @Nullable String launchTarget,
+        String data
+) {
+}
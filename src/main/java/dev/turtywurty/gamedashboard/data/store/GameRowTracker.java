@@ -0,0 +1,121 @@
+package dev.turtywurty.gamedashboard.data.store;
+
+import dev.turtywurty.gamedashboard.data.game.ExecutableLaunchTarget;
+import dev.turtywurty.gamedashboard.data.game.Game;
+import dev.turtywurty.gamedashboard.data.game.LaunchTarget;
+import dev.turtywurty.gamedashboard.data.game.UriLaunchTarget;
+import dev.turtywurty.gamedashboard.data.game.WindowsAppLaunchTarget;
+import javafx.collections.ListChangeListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// Remembers the row each game in the list is stored under and turns list changes into row changes.
+// Only used from the thread that changes the list.
+public final class GameRowTracker {
+    private final GameStore store;
+    private final Map<Game, String> keys = new IdentityHashMap<>();
+    private final Set<String> usedKeys = new HashSet<>();
+
+    public GameRowTracker(GameStore store) {
+        this.store = Objects.requireNonNull(store, "store");
+    }
+
+    public void reset(Map<String, Game> storedGames) {
+        this.keys.clear();
+        this.usedKeys.clear();
+        storedGames.forEach((key, game) -> {
+            this.keys.put(game, key);
+            this.usedKeys.add(key);
+        });
+    }
+
+    public GameChanges onChanged(ListChangeListener.Change<? extends Game> change) {
+        Set<Game> removedGames = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Game> addedGames = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated())
+                continue;
+
+            removedGames.addAll(change.getRemoved());
+            addedGames.addAll(change.getAddedSubList());
+        }
+
+        // setAll reports every game as removed and added again; the ones that are still the same object are unchanged.
+        addedGames.removeIf(removedGames::remove);
+
+        var changes = new GameChanges();
+        for (Game game : removedGames) {
+            String key = this.keys.remove(game);
+            if (key != null) {
+                this.usedKeys.remove(key);
+                changes.remove(key);
+            }
+        }
+
+        for (Game game : addedGames) {
+            if (game == null || game.getTitle() == null || this.keys.containsKey(game))
+                continue;
+
+            String key = uniqueKey(rowKey(game), this.usedKeys);
+            this.keys.put(game, key);
+            this.usedKeys.add(key);
+            // Serialized here rather than on the writer thread, which would race with later changes to the game.
+            changes.upsert(this.store.snapshot(key, game));
+        }
+
+        return changes;
+    }
+
+    static Map<String, Game> assignKeys(List<Game> games) {
+        Map<String, Game> keyedGames = new LinkedHashMap<>();
+        for (Game game : games) {
+            keyedGames.put(uniqueKey(rowKey(game), keyedGames.keySet()), game);
+        }
+
+        return keyedGames;
+    }
+
+    static GameRow toRow(String key, Game game, String data) {
+        return new GameRow(
+                key,
+                game.getType(),
+                game.getTitle(),
+                game.getIgdbGameId(),
+                launchTargetKey(game.getLaunchTarget()),
+                data
+        );
+    }
+
+    private static String launchTargetKey(LaunchTarget launchTarget) {
+        return switch (launchTarget) {
+            case null -> null;
+            case ExecutableLaunchTarget executable -> "executable:" + executable.executable()
+                    + (executable.arguments().isEmpty() ? "" : " " + String.join(" ", executable.arguments()));
+            case UriLaunchTarget uri -> "uri:" + uri.uri();
+            case WindowsAppLaunchTarget windowsApp -> "windows_app:" + windowsApp.appUserModelId();
+        };
+    }
+
+    private static String rowKey(Game game) {
+        String launchTargetKey = launchTargetKey(game.getLaunchTarget());
+        return game.getType() + "|" + (launchTargetKey == null ? "title:" + game.getTitle() : launchTargetKey);
+    }
+
+    // Two games sharing a launch target would otherwise overwrite each other's row.
+    private static String uniqueKey(String key, Set<String> usedKeys) {
+        String uniqueKey = key;
+        for (int suffix = 2; usedKeys.contains(uniqueKey); suffix++) {
+            uniqueKey = key + "#" + suffix;
+        }
+
+        return uniqueKey;
+    }
+}
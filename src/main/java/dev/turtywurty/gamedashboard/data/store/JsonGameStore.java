@@ -0,0 +1,110 @@
+package dev.turtywurty.gamedashboard.data.store;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import dev.turtywurty.gamedashboard.GameDashboardApp;
+import dev.turtywurty.gamedashboard.data.game.Game;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+public final class JsonGameStore implements GameStore {
+    static final String FILE_NAME = "games.json";
+
+    private final Gson gson;
+    private final Path gamesPath;
+    private final ReentrantLock lock = new ReentrantLock();
+    // The serialized form of every stored game, in stored order.
+    private final Map<String, String> rows = new LinkedHashMap<>();
+    private boolean unreadable;
+
+    public JsonGameStore(Path appDataPath, Gson gson) {
+        this.gamesPath = Objects.requireNonNull(appDataPath, "appDataPath").resolve(FILE_NAME);
+        this.gson = Objects.requireNonNull(gson, "gson");
+    }
+
+    @Override
+    public Map<String, Game> load() {
+        this.lock.lock();
+        try {
+            this.rows.clear();
+            if (!Files.exists(this.gamesPath)) {
+                write();
+                return Map.of();
+            }
+
+            try {
+                Map<String, Game> games = GameRowTracker.assignKeys(read());
+                games.forEach((key, game) -> this.rows.put(key, this.gson.toJson(game)));
+                return games;
+            } catch (IOException | JsonParseException exception) {
+                // The unreadable file is left as it is, so nothing is lost if it can be repaired.
+                GameDashboardApp.LOGGER.error("Failed to load {}", FILE_NAME, exception);
+                this.unreadable = true;
+                return Map.of();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // Unlike load(), failures are thrown, so a migration can stop before it treats a broken file as an empty library.
+    List<Game> read() throws IOException {
+        List<Game> games = this.gson.fromJson(Files.readString(this.gamesPath), new TypeToken<List<Game>>() {
+        });
+        if (games == null)
+            throw new IOException(FILE_NAME + " must contain a JSON array");
+
+        return normalize(games);
+    }
+
+    // A single file cannot be updated row by row, so every stored row is written again; none are re-serialized.
+    @Override
+    public void save(GameChanges changes) {
+        this.lock.lock();
+        try {
+            if (this.unreadable) {
+                GameDashboardApp.LOGGER.error("Not saving over {}, which could not be read", FILE_NAME);
+                return;
+            }
+
+            changes.removedKeys().forEach(this.rows::remove);
+            for (GameRow row : changes.upserts()) {
+                this.rows.put(row.key(), row.data());
+            }
+
+            write();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public GameRow snapshot(String key, Game game) {
+        return GameRowTracker.toRow(key, game, this.gson.toJson(game));
+    }
+
+    private void write() {
+        try {
+            JsonFileStore.writeAtomically(this.gamesPath, this.rows.isEmpty()
+                    ? "[]"
+                    : "[\n" + String.join(",\n", this.rows.values()) + "\n]");
+        } catch (IOException exception) {
+            GameDashboardApp.LOGGER.error("Failed to save {}", FILE_NAME, exception);
+        }
+    }
+
+    static List<Game> normalize(List<Game> games) {
+        return games == null
+                ? Collections.emptyList()
+                : games.stream().filter(game -> game != null && game.getTitle() != null).toList();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,232 @@
+package dev.turtywurty.gamedashboard.data.store;
+
+import com.google.gson.FormattingStyle;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import dev.turtywurty.gamedashboard.GameDashboardApp;
+import dev.turtywurty.gamedashboard.data.game.Game;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+public final class SqliteGameStore implements GameStore {
+    private static final String FILE_NAME = "games.db";
+    private static final String MIGRATED_SUFFIX = ".migrated";
+    private static final int SCHEMA_VERSION = 1;
+    private static final String UPSERT_QUERY = """
+            INSERT INTO games (game_key, type, title, igdb_game_id, launch_target, data)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (game_key) DO UPDATE SET
+                type = excluded.type,
+                title = excluded.title,
+                igdb_game_id = excluded.igdb_game_id,
+                launch_target = excluded.launch_target,
+                data = excluded.data
+            """;
+    private static final String DELETE_QUERY = "DELETE FROM games WHERE game_key = ?";
+
+    private final Path appDataPath;
+    private final Gson gson;
+    private final Connection connection;
+    private final ReentrantLock lock = new ReentrantLock();
+    // Changes whose write failed are retried with the next save, since later saves only carry their own changes.
+    private GameChanges failedChanges = new GameChanges();
+
+    public SqliteGameStore(Path appDataPath, Gson gson) throws SQLException {
+        this.appDataPath = Objects.requireNonNull(appDataPath, "appDataPath");
+        this.gson = Objects.requireNonNull(gson, "gson").newBuilder()
+                .setFormattingStyle(FormattingStyle.COMPACT)
+                .create();
+
+        try {
+            Files.createDirectories(appDataPath);
+        } catch (IOException exception) {
+            throw new SQLException("Failed to create " + appDataPath, exception);
+        }
+
+        this.connection = DriverManager.getConnection("jdbc:sqlite:" + appDataPath.resolve(FILE_NAME).toAbsolutePath());
+        try {
+            initialize();
+        } catch (SQLException exception) {
+            this.connection.close();
+            throw exception;
+        }
+    }
+
+    @Override
+    public Map<String, Game> load() {
+        this.lock.lock();
+        try {
+            Map<String, Game> games = new LinkedHashMap<>();
+            try (Statement statement = this.connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT game_key, data FROM games ORDER BY id")) {
+                while (resultSet.next()) {
+                    String key = resultSet.getString("game_key");
+                    try {
+                        Game game = this.gson.fromJson(resultSet.getString("data"), Game.class);
+                        if (game != null && game.getTitle() != null) {
+                            games.put(key, game);
+                        }
+                    } catch (JsonParseException exception) {
+                        GameDashboardApp.LOGGER.warn("Skipping unreadable game row {}", key, exception);
+                    }
+                }
+            } catch (SQLException exception) {
+                GameDashboardApp.LOGGER.error("Failed to load games from {}", FILE_NAME, exception);
+                return Map.of();
+            }
+
+            return games;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // Only the rows that were added, replaced or removed since the last save are written.
+    @Override
+    public void save(GameChanges changes) {
+        Objects.requireNonNull(changes, "changes");
+
+        this.lock.lock();
+        try {
+            GameChanges pendingChanges = this.failedChanges.mergeWith(changes);
+            if (pendingChanges.isEmpty())
+                return;
+
+            try {
+                write(pendingChanges.upserts(), pendingChanges.removedKeys());
+                this.failedChanges = new GameChanges();
+            } catch (SQLException exception) {
+                GameDashboardApp.LOGGER.error("Failed to save games to {}", FILE_NAME, exception);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public GameRow snapshot(String key, Game game) {
+        return GameRowTracker.toRow(key, game, this.gson.toJson(game));
+    }
+
+    @Override
+    public void close() {
+        this.lock.lock();
+        try {
+            this.connection.close();
+        } catch (SQLException exception) {
+            GameDashboardApp.LOGGER.warn("Failed to close {}", FILE_NAME, exception);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void initialize() throws SQLException {
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("PRAGMA journal_mode = WAL");
+            statement.execute("PRAGMA synchronous = NORMAL");
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS games (
+                        id INTEGER PRIMARY KEY,
+                        game_key TEXT NOT NULL UNIQUE,
+                        type TEXT NOT NULL,
+                        title TEXT NOT NULL,
+                        igdb_game_id INTEGER,
+                        launch_target TEXT,
+                        data TEXT NOT NULL
+                    )
+                    """);
+            statement.execute("CREATE INDEX IF NOT EXISTS games_type ON games (type)");
+            statement.execute("CREATE INDEX IF NOT EXISTS games_igdb_game_id ON games (igdb_game_id)");
+            statement.execute("CREATE INDEX IF NOT EXISTS games_launch_target ON games (launch_target)");
+
+            int version;
+            try (ResultSet resultSet = statement.executeQuery("PRAGMA user_version")) {
+                version = resultSet.next() ? resultSet.getInt(1) : 0;
+            }
+
+            if (version < SCHEMA_VERSION) {
+                migrateFromJson();
+                statement.execute("PRAGMA user_version = " + SCHEMA_VERSION);
+            }
+        }
+    }
+
+    private void migrateFromJson() throws SQLException {
+        Path jsonPath = this.appDataPath.resolve(JsonGameStore.FILE_NAME);
+        if (!Files.isRegularFile(jsonPath))
+            return;
+
+        // A games.json that cannot be read aborts the migration, leaving the file and user_version for the next start.
+        List<Game> games;
+        try {
+            games = new JsonGameStore(this.appDataPath, this.gson).read();
+        } catch (IOException | JsonParseException exception) {
+            throw new SQLException("Failed to read " + JsonGameStore.FILE_NAME + " for migration", exception);
+        }
+
+        List<GameRow> migratedRows = new ArrayList<>(games.size());
+        GameRowTracker.assignKeys(games).forEach((key, game) -> migratedRows.add(snapshot(key, game)));
+
+        write(migratedRows, Set.of());
+
+        // The old file is kept next to the database so a failed migration can still be recovered by hand.
+        try {
+            Files.move(jsonPath, jsonPath.resolveSibling(JsonGameStore.FILE_NAME + MIGRATED_SUFFIX),
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException exception) {
+            GameDashboardApp.LOGGER.warn("Failed to rename {} after migrating it", JsonGameStore.FILE_NAME, exception);
+        }
+
+        GameDashboardApp.LOGGER.info("Migrated {} games from {} to {}", migratedRows.size(), JsonGameStore.FILE_NAME, FILE_NAME);
+    }
+
+    private void write(Collection<GameRow> changedRows, Collection<String> removedKeys) throws SQLException {
+        this.connection.setAutoCommit(false);
+        try (PreparedStatement upsert = this.connection.prepareStatement(UPSERT_QUERY);
+             PreparedStatement delete = this.connection.prepareStatement(DELETE_QUERY)) {
+            for (GameRow row : changedRows) {
+                upsert.setString(1, row.key());
+                upsert.setString(2, row.type());
+                upsert.setString(3, row.title());
+                if (row.igdbGameId() == null) {
+                    upsert.setNull(4, Types.INTEGER);
+                } else {
+                    upsert.setInt(4, row.igdbGameId());
+                }
+                upsert.setString(5, row.launchTarget());
+                upsert.setString(6, row.data());
+                upsert.executeUpdate();
+            }
+
+            for (String key : removedKeys) {
+                delete.setString(1, key);
+                delete.executeUpdate();
+            }
+
+            this.connection.commit();
+        } catch (SQLException exception) {
+            this.connection.rollback();
+            throw exception;
+        } finally {
+            this.connection.setAutoCommit(true);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package dev.turtywurty.gamedashboard.data.store;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import dev.turtywurty.gamedashboard.GameDashboardApp;
+import dev.turtywurty.gamedashboard.data.model.SteamManifestFingerprint;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+public final class SteamManifestStore {
+    private static final String FILE_NAME = "steam-manifests.json";
+
+    private final Gson gson;
+    private final Path manifestsPath;
+
+    public SteamManifestStore(Path appDataPath, Gson gson) {
+        this.manifestsPath = Objects.requireNonNull(appDataPath, "appDataPath").resolve(FILE_NAME);
+        this.gson = Objects.requireNonNull(gson, "gson");
+    }
+
+    // Keyed by the absolute path of each appmanifest_<id>.acf.
+    public Map<String, SteamManifestFingerprint> load() {
+        if (!Files.isRegularFile(this.manifestsPath) || !Files.isReadable(this.manifestsPath))
+            return Collections.emptyMap();
+
+        try {
+            Map<String, SteamManifestFingerprint> fingerprints = this.gson.fromJson(
+                    Files.readString(this.manifestsPath),
+                    new TypeToken<Map<String, SteamManifestFingerprint>>() {
+                    }.getType()
+            );
+            if (fingerprints == null)
+                return Collections.emptyMap();
+
+            Map<String, SteamManifestFingerprint> normalized = new HashMap<>();
+            fingerprints.forEach((path, fingerprint) -> {
+                if (path != null && fingerprint != null && fingerprint.name() != null) {
+                    normalized.put(path, fingerprint);
+                }
+            });
+            return normalized;
+        } catch (IOException | JsonParseException exception) {
+            GameDashboardApp.LOGGER.warn("Failed to load {}, all Steam manifests will be read again", FILE_NAME, exception);
+            return Collections.emptyMap();
+        }
+    }
+
+    public void save(Map<String, SteamManifestFingerprint> fingerprints) {
+        try {
+            JsonFileStore.writeAtomically(this.manifestsPath, this.gson.toJson(Objects.requireNonNull(fingerprints, "fingerprints")));
+        } catch (IOException exception) {
+            GameDashboardApp.LOGGER.error("Failed to save {}", FILE_NAME, exception);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package dev.turtywurty.gamedashboard.data.store;
+
+import dev.turtywurty.gamedashboard.GameDashboardApp;
+
+import java.util.Objects;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+
+public final class WriteBehindQueue<T> implements AutoCloseable {
+    private final String name;
+    private final long delayMillis;
+    private final Consumer<T> writer;
+    private final BinaryOperator<T> merger;
+    private final ScheduledThreadPoolExecutor executor;
+    private final Object pendingLock = new Object();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private T pending;
+
+    // The merger folds a newly submitted snapshot into the one still waiting to be written.
+    public WriteBehindQueue(String name, long delayMillis, Consumer<T> writer, BinaryOperator<T> merger) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.delayMillis = delayMillis;
+        this.writer = Objects.requireNonNull(writer, "writer");
+        this.merger = Objects.requireNonNull(merger, "merger");
+        this.executor = new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().daemon().name(name).factory());
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    public void submit(T snapshot) {
+        Objects.requireNonNull(snapshot, "snapshot");
+        synchronized (this.pendingLock) {
+            this.pending = this.pending == null ? snapshot : this.merger.apply(this.pending, snapshot);
+        }
+
+        // Every snapshot submitted inside the window is merged into the pending one, so a single write covers them all.
+        if (this.scheduled.compareAndSet(false, true) && !this.executor.isShutdown())
+            this.executor.schedule(this::writePending, this.delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void flush() {
+        writePending();
+    }
+
+    @Override
+    public void close() {
+        // Not shutdownNow: interrupting a write in progress would close its file channel halfway through.
+        this.executor.shutdown();
+        flush();
+    }
+
+    private void writePending() {
+        this.scheduled.set(false);
+        this.writeLock.lock();
+        try {
+            T snapshot;
+            synchronized (this.pendingLock) {
+                snapshot = this.pending;
+                this.pending = null;
+            }
+
+            if (snapshot != null)
+                this.writer.accept(snapshot);
+        } catch (RuntimeException exception) {
+            GameDashboardApp.LOGGER.error("Failed to write pending {} state", this.name, exception);
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+}
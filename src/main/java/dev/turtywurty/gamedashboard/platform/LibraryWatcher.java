@@ -0,0 +1,241 @@
+package dev.turtywurty.gamedashboard.platform;
+
+import dev.turtywurty.gamedashboard.GameDashboardApp;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public final class LibraryWatcher implements AutoCloseable {
+    private static final long DEBOUNCE_MILLIS = Long.getLong("gamedashboard.libraryWatcher.debounceMillis", 2_000);
+    private static final LibraryWatcher INSTANCE = new LibraryWatcher();
+
+    private final ScheduledThreadPoolExecutor scheduler =
+            new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().daemon().name("library-watcher-debounce").factory());
+    private final Object lock = new Object();
+    private final Map<Path, WatchKey> watchKeys = new HashMap<>();
+    private final List<Target> targets = new ArrayList<>();
+    private final Map<Platform, Set<Path>> pendingChanges = new HashMap<>();
+    private final Map<Platform, ScheduledFuture<?>> scheduledRescans = new HashMap<>();
+    private final Set<Platform> runningRescans = new HashSet<>();
+
+    private WatchService watchService;
+
+    private LibraryWatcher() {
+    }
+
+    public static LibraryWatcher getInstance() {
+        return INSTANCE;
+    }
+
+    public void start() {
+        synchronized (this.lock) {
+            if (this.watchService != null)
+                return;
+
+            try {
+                this.watchService = FileSystems.getDefault().newWatchService();
+            } catch (IOException exception) {
+                GameDashboardApp.LOGGER.error("Failed to start the library watcher", exception);
+                return;
+            }
+
+            WatchService service = this.watchService;
+            Thread.ofPlatform().daemon().name("library-watcher").start(() -> pollEvents(service));
+        }
+
+        refresh();
+    }
+
+    // Re-reads every platform's watched paths, e.g. after a launcher was configured or a library folder was added.
+    public void refresh() {
+        List<Target> targets = new ArrayList<>();
+        for (Platform platform : Platforms.getPlatforms()) {
+            try {
+                for (Path path : platform.getWatchedPaths()) {
+                    if (Files.isDirectory(path)) {
+                        targets.add(new Target(platform, path.toAbsolutePath(), true));
+                    } else if (path.getParent() != null && Files.isDirectory(path.getParent())) {
+                        targets.add(new Target(platform, path.toAbsolutePath(), false));
+                    }
+                }
+            } catch (RuntimeException exception) {
+                GameDashboardApp.LOGGER.warn("Failed to find watched paths for {}", platform.getName(), exception);
+            }
+        }
+
+        synchronized (this.lock) {
+            if (this.watchService == null)
+                return;
+
+            Set<Path> directories = new HashSet<>();
+            for (Target target : targets) {
+                directories.add(target.directory());
+            }
+
+            this.watchKeys.entrySet().removeIf(entry -> {
+                if (directories.contains(entry.getKey()))
+                    return false;
+
+                entry.getValue().cancel();
+                return true;
+            });
+
+            for (Path directory : directories) {
+                if (this.watchKeys.containsKey(directory))
+                    continue;
+
+                try {
+                    this.watchKeys.put(directory, directory.register(
+                            this.watchService,
+                            StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_DELETE,
+                            StandardWatchEventKinds.ENTRY_MODIFY
+                    ));
+                } catch (IOException exception) {
+                    GameDashboardApp.LOGGER.warn("Failed to watch {}", directory, exception);
+                }
+            }
+
+            this.targets.clear();
+            this.targets.addAll(targets);
+        }
+
+        GameDashboardApp.LOGGER.info("Watching {} launcher paths in {} directories", targets.size(), this.watchKeys.size());
+    }
+
+    @Override
+    public void close() {
+        synchronized (this.lock) {
+            this.scheduler.shutdownNow();
+            if (this.watchService == null)
+                return;
+
+            try {
+                this.watchService.close();
+            } catch (IOException exception) {
+                GameDashboardApp.LOGGER.debug("Failed to close the library watcher", exception);
+            }
+
+            this.watchService = null;
+            this.watchKeys.clear();
+        }
+    }
+
+    private void pollEvents(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                Path directory = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        onChanged(directory, null);
+                    } else if (event.context() instanceof Path child) {
+                        onChanged(directory, directory.resolve(child));
+                    }
+                }
+
+                key.reset();
+            }
+        } catch (ClosedWatchServiceException ignored) {
+            // The watcher was closed.
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // A null path means events were dropped, so every target in the directory is reported as changed.
+    private void onChanged(Path directory, Path path) {
+        synchronized (this.lock) {
+            for (Target target : this.targets) {
+                if (!target.directory().equals(directory))
+                    continue;
+
+                Path changedPath;
+                if (target.isDirectory()) {
+                    changedPath = path == null ? target.path() : path;
+                } else if (path == null || isSameFile(target.path(), path)) {
+                    changedPath = target.path();
+                } else {
+                    continue;
+                }
+
+                this.pendingChanges.computeIfAbsent(target.platform(), ignored -> new HashSet<>()).add(changedPath);
+                scheduleRescan(target.platform());
+            }
+        }
+    }
+
+    private void scheduleRescan(Platform platform) {
+        ScheduledFuture<?> previous = this.scheduledRescans.remove(platform);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+
+        if (!this.scheduler.isShutdown()) {
+            this.scheduledRescans.put(
+                    platform,
+                    this.scheduler.schedule(() -> rescan(platform), DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)
+            );
+        }
+    }
+
+    private void rescan(Platform platform) {
+        Set<Path> changedPaths;
+        synchronized (this.lock) {
+            this.scheduledRescans.remove(platform);
+            // Changes that arrive while a rescan runs are picked up by another rescan once it finishes.
+            if (!this.runningRescans.add(platform)) {
+                scheduleRescan(platform);
+                return;
+            }
+
+            changedPaths = this.pendingChanges.remove(platform);
+            if (changedPaths == null) {
+                this.runningRescans.remove(platform);
+                return;
+            }
+        }
+
+        Thread.ofVirtual().name("library-rescan-" + platform.getName()).start(() -> {
+            try {
+                GameDashboardApp.LOGGER.info("Rescanning {} after changes to {}", platform.getName(), changedPaths);
+                platform.onWatchedPathsChanged(Set.copyOf(changedPaths));
+            } catch (RuntimeException exception) {
+                GameDashboardApp.LOGGER.error("Failed to rescan {}", platform.getName(), exception);
+            } finally {
+                synchronized (this.lock) {
+                    this.runningRescans.remove(platform);
+                }
+
+                refresh();
+            }
+        });
+    }
+
+    // SQLite databases are also written through their -wal and -journal side files.
+    private static boolean isSameFile(Path target, Path path) {
+        return path.getFileName().toString().startsWith(target.getFileName().toString());
+    }
+
+    private record Target(Platform platform, Path path, boolean isDirectory) {
+        private Path directory() {
+            return this.isDirectory ? this.path : this.path.getParent();
+        }
+    }
+}
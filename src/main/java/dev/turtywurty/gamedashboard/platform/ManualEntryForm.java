@@ -150,7 +150,9 @@ public final class ManualEntryForm {
     }
 
     public static void runAsync(ProgressMonitor progressMonitor, Runnable action) {
+        // A manual entry can point a platform at a new launcher location, so the watched paths are re-read.
         CompletableFuture.runAsync(action)
+                .thenRun(() -> LibraryWatcher.getInstance().refresh())
                 .exceptionally(throwable -> {
                     progressMonitor.done();
                     return null;
@@ -4,6 +4,9 @@ import dev.turtywurty.gamedashboard.util.ProgressMonitor;
 import javafx.scene.Node;
 import javafx.scene.image.Image;
 
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
 public interface Platform {
@@ -19,6 +22,14 @@ public interface Platform {
 
     public ManualEntryView createManualEntryView();
 
+    // Files or directories holding launcher state; LibraryWatcher reports changes under them to onWatchedPathsChanged.
+    public default List<Path> getWatchedPaths() {
+        return List.of();
+    }
+
+    public default void onWatchedPathsChanged(Set<Path> changedPaths) {
+    }
+
     public record ManualEntryView(Node content, Consumer<ProgressMonitor> saveAction) {
     }
 }
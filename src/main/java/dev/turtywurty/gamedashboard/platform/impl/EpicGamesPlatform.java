@@ -5,6 +5,8 @@ import com.google.gson.annotations.SerializedName;
 import dev.turtywurty.gamedashboard.GameDashboardApp;
 import dev.turtywurty.gamedashboard.data.APIConnector;
 import dev.turtywurty.gamedashboard.data.Database;
+import dev.turtywurty.gamedashboard.data.DiscoveryScheduler;
+import dev.turtywurty.gamedashboard.data.GameBatch;
 import dev.turtywurty.gamedashboard.data.game.impl.EpicGamesGame;
 import dev.turtywurty.gamedashboard.platform.ManualEntryForm;
 import dev.turtywurty.gamedashboard.platform.Platform;
@@ -13,13 +15,15 @@ import dev.turtywurty.gamedashboard.util.ProgressMonitor;
 import dev.turtywurty.gamedashboard.util.Utils;
 import javafx.scene.image.Image;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 public final class EpicGamesPlatform implements Platform {
     private static final Gson GSON = new Gson();
@@ -39,19 +43,19 @@ public final class EpicGamesPlatform implements Platform {
             }
 
             progressMonitor.start("Loading Epic Games games", files.size());
-            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            try (var batch = new GameBatch();
+                 var tasks = DiscoveryScheduler.getInstance().open("Epic Games", progressMonitor)) {
                 for (Path manifestPath : files) {
-                    executor.submit(() -> addEpicGame(progressMonitor, manifestPath));
+                    tasks.submit(() -> addEpicGame(batch, manifestPath));
                 }
             }
-            progressMonitor.done();
         } catch (Exception exception) {
             progressMonitor.done();
             GameDashboardApp.LOGGER.error("Failed to read Epic Games manifests", exception);
         }
     }
 
-    private static void addEpicGame(ProgressMonitor progressMonitor, Path manifestPath) {
+    private static void addEpicGame(GameBatch batch, Path manifestPath) {
         try {
             EpicManifest manifest = GSON.fromJson(Files.readString(manifestPath), EpicManifest.class);
             if (!isValidManifest(manifest))
@@ -76,11 +80,9 @@ public final class EpicGamesPlatform implements Platform {
                     .igdbGameId(result == null ? null : result.getIgdbGameId())
                     .nickname(title)
                     .build();
-            Utils.runOnFxThread(() -> Database.getInstance().addGame(game));
+            batch.add(game);
         } catch (Exception exception) {
             GameDashboardApp.LOGGER.error("Failed to read Epic Games manifest: {}", manifestPath, exception);
-        } finally {
-            progressMonitor.worked(1);
         }
     }
 
@@ -93,6 +95,16 @@ public final class EpicGamesPlatform implements Platform {
         };
     }
 
+    private static List<Path> getManifestsDirectories() {
+        return Database.getInstance().getLibrarySources("epic_games", getDefaultManifestsDirectory());
+    }
+
+    private static boolean isInDirectory(EpicGamesGame game, Set<Path> directories) {
+        Path manifestPath = Utils.toPathOrNull(game.getEpicManifestPath());
+        Path directory = manifestPath == null ? null : manifestPath.toAbsolutePath().getParent();
+        return directory != null && directories.contains(directory);
+    }
+
     private static String getProgramDataPath() {
         String programData = System.getenv("PROGRAMDATA");
         return programData == null || programData.isBlank() ? "C:\\ProgramData" : programData;
@@ -190,6 +202,51 @@ public final class EpicGamesPlatform implements Platform {
         };
     }
 
+    @Override
+    public List<Path> getWatchedPaths() {
+        return getManifestsDirectories().stream()
+                .filter(EpicGamesPlatform::isValidManifestsDirectory)
+                .toList();
+    }
+
+    // Only new manifests and the ones that changed are read and resolved again. Games whose manifest lives in a
+    // directory that could not be listed are left alone rather than treated as uninstalled.
+    @Override
+    public void onWatchedPathsChanged(Set<Path> changedPaths) {
+        Set<String> installedManifests = new HashSet<>();
+        Set<Path> listedDirectories = new HashSet<>();
+        for (Path path : getManifestsDirectories()) {
+            if (!isValidManifestsDirectory(path))
+                continue;
+
+            try (var stream = Files.list(path).filter(EpicGamesPlatform::isManifestFile)) {
+                installedManifests.addAll(stream.map(Path::toString).collect(Collectors.toSet()));
+                listedDirectories.add(path);
+            } catch (IOException exception) {
+                GameDashboardApp.LOGGER.warn("Failed to list Epic Games manifests in {}", path, exception);
+            }
+        }
+
+        if (listedDirectories.isEmpty())
+            return;
+
+        Set<String> knownManifests = Database.getInstance().retainInstalledGames(
+                EpicGamesGame.class,
+                game -> isInDirectory(game, listedDirectories),
+                EpicGamesGame::getEpicManifestPath,
+                installedManifests
+        );
+        try (var batch = new GameBatch();
+             var tasks = DiscoveryScheduler.getInstance().open("Epic Games", ProgressMonitor.NONE)) {
+            for (String manifest : installedManifests) {
+                Path manifestPath = Path.of(manifest);
+                if (!knownManifests.contains(manifest) || changedPaths.contains(manifestPath)) {
+                    tasks.submit(() -> addEpicGame(batch, manifestPath));
+                }
+            }
+        }
+    }
+
     @Override
     public ManualEntryView createManualEntryView() {
         var form = new ManualEntryForm(
@@ -219,7 +276,9 @@ public final class EpicGamesPlatform implements Platform {
                 return;
 
             form.hideError();
-            ManualEntryForm.runAsync(progressMonitor, () -> addEpicGames(progressMonitor, Path.of(manifestsDirectory)));
+            Path path = Path.of(manifestsDirectory);
+            Database.getInstance().addLibrarySource("epic_games", path);
+            ManualEntryForm.runAsync(progressMonitor, () -> addEpicGames(progressMonitor, path));
         });
     }
 
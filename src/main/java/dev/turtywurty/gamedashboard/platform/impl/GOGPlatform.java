@@ -5,6 +5,8 @@ import com.google.gson.JsonObject;
 import dev.turtywurty.gamedashboard.GameDashboardApp;
 import dev.turtywurty.gamedashboard.data.APIConnector;
 import dev.turtywurty.gamedashboard.data.Database;
+import dev.turtywurty.gamedashboard.data.DiscoveryScheduler;
+import dev.turtywurty.gamedashboard.data.GameBatch;
 import dev.turtywurty.gamedashboard.data.game.impl.GOGGame;
 import dev.turtywurty.gamedashboard.platform.ManualEntryForm;
 import dev.turtywurty.gamedashboard.platform.Platform;
@@ -21,9 +23,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 
 public final class GOGPlatform implements Platform {
@@ -59,6 +63,28 @@ public final class GOGPlatform implements Platform {
             return;
         }
 
+        List<GOGProduct> products = readProducts(databasePath);
+        if (products == null) {
+            progressMonitor.done();
+            return;
+        }
+
+        progressMonitor.worked(1);
+        if (products.isEmpty()) {
+            progressMonitor.done();
+            return;
+        }
+
+        progressMonitor.start("Loading GOG games", products.size());
+        try (var batch = new GameBatch();
+             var tasks = DiscoveryScheduler.getInstance().open("GOG", progressMonitor)) {
+            for (GOGProduct product : products) {
+                tasks.submit(() -> addGOGGame(batch, product, databasePath));
+            }
+        }
+    }
+
+    private static @Nullable List<GOGProduct> readProducts(Path databasePath) {
         List<GOGProduct> products = new ArrayList<>();
         try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + databasePath.toAbsolutePath());
              Statement statement = connection.createStatement();
@@ -72,76 +98,55 @@ public final class GOGPlatform implements Platform {
                 }
             }
         } catch (SQLException exception) {
-            progressMonitor.done();
             GameDashboardApp.LOGGER.error("Failed to connect to GOG database", exception);
-            return;
-        }
-
-        progressMonitor.worked(1);
-        if (products.isEmpty()) {
-            progressMonitor.done();
-            return;
+            return null;
         }
 
-        progressMonitor.start("Loading GOG games", products.size());
-        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
-            for (GOGProduct product : products) {
-                executor.submit(() -> addGOGGame(progressMonitor, product));
-            }
-        } finally {
-            progressMonitor.done();
-        }
+        return products;
     }
 
-    private static void addGOGGame(ProgressMonitor progressMonitor, GOGProduct product) {
-        try {
-            String description = product.description();
-            String thumbCoverImageURL = product.thumbCoverImageURL();
-            String coverImageURL = product.coverImageURL();
-            APIConnector.GameResult gameResult = null;
-
-            if (description == null || description.isBlank() || coverImageURL == null || coverImageURL.isBlank()) {
-                gameResult = searchGame(product.title());
-                if (gameResult != null) {
-                    GameDashboardApp.LOGGER.info("Found metadata for GOG title '{}'", product.title());
-                }
+    private static void addGOGGame(GameBatch batch, GOGProduct product, Path databasePath) {
+        String description = product.description();
+        String thumbCoverImageURL = product.thumbCoverImageURL();
+        String coverImageURL = product.coverImageURL();
+        APIConnector.GameResult gameResult = null;
 
-                if ((description == null || description.isBlank()) && gameResult != null) {
-                    description = gameResult.getSummary();
-                }
+        if (description == null || description.isBlank() || coverImageURL == null || coverImageURL.isBlank()) {
+            gameResult = searchGame(product.title());
+            if (gameResult != null) {
+                GameDashboardApp.LOGGER.info("Found metadata for GOG title '{}'", product.title());
+            }
 
-                if ((coverImageURL == null || coverImageURL.isBlank()) && gameResult != null) {
-                    coverImageURL = gameResult.getCoverURL();
-                }
+            if ((description == null || description.isBlank()) && gameResult != null) {
+                description = gameResult.getSummary();
             }
 
-            var game = GOGGame.builder(
-                            product.title(),
-                            description == null ? "" : description,
-                            product.executionCommand(),
-                            product.productId(),
-                            product.url(),
-                            product.slug()
-                    )
-                    .images(
-                            thumbCoverImageURL == null || thumbCoverImageURL.isBlank()
-                                    ? Utils.PLACEHOLDER_COVER_URL
-                                    : thumbCoverImageURL,
-                            coverImageURL == null || coverImageURL.isBlank()
-                                    ? Utils.PLACEHOLDER_COVER_URL
-                                    : coverImageURL
-                    )
-                    .igdbGameId(gameResult == null ? null : gameResult.getIgdbGameId())
-                    .nickname(product.title())
-                    .build();
-            Utils.runOnFxThread(() -> {
-                if (!Database.getInstance().addGame(game)) {
-                    Database.getInstance().updateGame(game, game);
-                }
-            });
-        } finally {
-            progressMonitor.worked(1);
+            if ((coverImageURL == null || coverImageURL.isBlank()) && gameResult != null) {
+                coverImageURL = gameResult.getCoverURL();
+            }
         }
+
+        var game = GOGGame.builder(
+                        product.title(),
+                        description == null ? "" : description,
+                        product.executionCommand(),
+                        product.productId(),
+                        product.url(),
+                        product.slug()
+                )
+                .images(
+                        thumbCoverImageURL == null || thumbCoverImageURL.isBlank()
+                                ? Utils.PLACEHOLDER_COVER_URL
+                                : thumbCoverImageURL,
+                        coverImageURL == null || coverImageURL.isBlank()
+                                ? Utils.PLACEHOLDER_COVER_URL
+                                : coverImageURL
+                )
+                .igdbGameId(gameResult == null ? null : gameResult.getIgdbGameId())
+                .nickname(product.title())
+                .databasePath(databasePath)
+                .build();
+        batch.add(game);
     }
 
     private static @Nullable GOGProduct readProduct(ResultSet resultSet, Path databasePath) {
@@ -286,6 +291,10 @@ public final class GOGPlatform implements Platform {
         };
     }
 
+    private static List<Path> getDatabasePaths() {
+        return Database.getInstance().getLibrarySources("gog", getDefaultDatabasePath());
+    }
+
     private static String getProgramDataPath() {
         String programData = System.getenv("PROGRAMDATA");
         return programData == null || programData.isBlank() ? "C:\\ProgramData" : programData;
@@ -347,6 +356,47 @@ public final class GOGPlatform implements Platform {
         };
     }
 
+    @Override
+    public List<Path> getWatchedPaths() {
+        return getDatabasePaths();
+    }
+
+    // Galaxy rewrites its database for every change, so the installed products are diffed against the known ones.
+    // Only games recorded as coming from a database that was read can be removed; the rest are kept.
+    @Override
+    public void onWatchedPathsChanged(Set<Path> changedPaths) {
+        Map<Path, List<GOGProduct>> productsByDatabase = new LinkedHashMap<>();
+        for (Path databasePath : getDatabasePaths()) {
+            List<GOGProduct> products = isValidDatabaseFile(databasePath) ? readProducts(databasePath) : null;
+            if (products != null)
+                productsByDatabase.put(databasePath, products);
+        }
+
+        if (productsByDatabase.isEmpty())
+            return;
+
+        Set<Long> installedProductIds = new HashSet<>();
+        productsByDatabase.values().forEach(products -> products.forEach(product ->
+                installedProductIds.add(product.productId())));
+
+        Set<Long> knownProductIds = Database.getInstance().retainInstalledGames(
+                GOGGame.class,
+                game -> Database.isFromLibrarySource(game.getDatabasePath(), productsByDatabase.keySet()),
+                GOGGame::getProductId,
+                installedProductIds
+        );
+        try (var batch = new GameBatch();
+             var tasks = DiscoveryScheduler.getInstance().open("GOG", ProgressMonitor.NONE)) {
+            productsByDatabase.forEach((databasePath, products) -> {
+                for (GOGProduct product : products) {
+                    if (knownProductIds.add(product.productId())) {
+                        tasks.submit(() -> addGOGGame(batch, product, databasePath));
+                    }
+                }
+            });
+        }
+    }
+
     @Override
     public ManualEntryView createManualEntryView() {
         var form = new ManualEntryForm(
@@ -372,7 +422,9 @@ public final class GOGPlatform implements Platform {
                 return;
 
             form.hideError();
-            ManualEntryForm.runAsync(progressMonitor, () -> addGOGGames(progressMonitor, Path.of(databasePath)));
+            Path path = Path.of(databasePath);
+            Database.getInstance().addLibrarySource("gog", path);
+            ManualEntryForm.runAsync(progressMonitor, () -> addGOGGames(progressMonitor, path));
         });
     }
 
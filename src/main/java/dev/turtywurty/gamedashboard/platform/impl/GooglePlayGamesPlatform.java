@@ -2,7 +2,8 @@ package dev.turtywurty.gamedashboard.platform.impl;
 
 import dev.turtywurty.gamedashboard.GameDashboardApp;
 import dev.turtywurty.gamedashboard.data.APIConnector;
-import dev.turtywurty.gamedashboard.data.Database;
+import dev.turtywurty.gamedashboard.data.DiscoveryScheduler;
+import dev.turtywurty.gamedashboard.data.GameBatch;
 import dev.turtywurty.gamedashboard.data.game.ExecutableLaunchTarget;
 import dev.turtywurty.gamedashboard.data.game.LaunchTarget;
 import dev.turtywurty.gamedashboard.data.game.UriLaunchTarget;
@@ -133,12 +134,11 @@ public final class GooglePlayGamesPlatform implements Platform {
         }
 
         progressMonitor.start("Loading Google Play Games", games.size());
-        try {
+        try (var batch = new GameBatch();
+             var tasks = DiscoveryScheduler.getInstance().open("Google Play Games", progressMonitor)) {
             for (GooglePlayInstallation game : games) {
-                addGame(progressMonitor, game);
+                tasks.submit(() -> addGame(batch, game));
             }
-        } finally {
-            progressMonitor.done();
         }
     }
 
@@ -198,7 +198,7 @@ public final class GooglePlayGamesPlatform implements Platform {
         }
     }
 
-    private static void addGame(ProgressMonitor progressMonitor, GooglePlayInstallation installation) {
+    private static void addGame(GameBatch batch, GooglePlayInstallation installation) {
         try {
             APIConnector.GameResult metadata = findMetadata(installation);
             String generatedCover = metadata == null || Utils.isPlaceholderUrl(metadata.getCoverURL())
@@ -245,15 +245,9 @@ public final class GooglePlayGamesPlatform implements Platform {
                     installation.title(),
                     installation.packageName()
             );
-            Utils.runOnFxThread(() -> {
-                if (!Database.getInstance().addGame(game)) {
-                    Database.getInstance().updateGame(game, game);
-                }
-            });
+            batch.add(game);
         } catch (RuntimeException exception) {
             GameDashboardApp.LOGGER.error("Failed to load Google Play Games title '{}'", installation.title(), exception);
-        } finally {
-            progressMonitor.worked(1);
         }
     }
 
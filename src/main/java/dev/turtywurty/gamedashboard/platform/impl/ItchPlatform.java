@@ -6,6 +6,8 @@ import com.google.gson.JsonObject;
 import dev.turtywurty.gamedashboard.GameDashboardApp;
 import dev.turtywurty.gamedashboard.data.APIConnector;
 import dev.turtywurty.gamedashboard.data.Database;
+import dev.turtywurty.gamedashboard.data.DiscoveryScheduler;
+import dev.turtywurty.gamedashboard.data.GameBatch;
 import dev.turtywurty.gamedashboard.data.game.ExecutableLaunchTarget;
 import dev.turtywurty.gamedashboard.data.game.LaunchTarget;
 import dev.turtywurty.gamedashboard.data.game.UriLaunchTarget;
@@ -29,7 +31,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -59,6 +63,28 @@ public final class ItchPlatform implements Platform {
             return;
         }
 
+        List<ItchProduct> products = readProducts(databasePath);
+        if (products == null) {
+            progressMonitor.done();
+            return;
+        }
+
+        progressMonitor.worked(1);
+        if (products.isEmpty()) {
+            progressMonitor.done();
+            return;
+        }
+
+        progressMonitor.start("Loading itch.io games", products.size());
+        try (var batch = new GameBatch();
+             var tasks = DiscoveryScheduler.getInstance().open("itch.io", progressMonitor)) {
+            for (ItchProduct product : products) {
+                tasks.submit(() -> addItchGame(batch, product, databasePath));
+            }
+        }
+    }
+
+    private static @Nullable List<ItchProduct> readProducts(Path databasePath) {
         List<ItchProduct> products = new ArrayList<>();
         List<Path> installLocations = new ArrayList<>();
         try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + databasePath.toAbsolutePath());
@@ -75,27 +101,12 @@ public final class ItchPlatform implements Platform {
 
             installLocations.addAll(readInstallLocations(connection));
         } catch (SQLException exception) {
-            progressMonitor.done();
             GameDashboardApp.LOGGER.error("Failed to connect to itch database", exception);
-            return;
+            return null;
         }
 
         addReceiptProducts(products, installLocations);
-
-        progressMonitor.worked(1);
-        if (products.isEmpty()) {
-            progressMonitor.done();
-            return;
-        }
-
-        progressMonitor.start("Loading itch.io games", products.size());
-        try {
-            for (ItchProduct product : products) {
-                addItchGame(progressMonitor, product);
-            }
-        } finally {
-            progressMonitor.done();
-        }
+        return products;
     }
 
     private static List<Path> readInstallLocations(Connection connection) {
@@ -210,39 +221,32 @@ public final class ItchPlatform implements Platform {
         return null;
     }
 
-    private static void addItchGame(ProgressMonitor progressMonitor, ItchProduct product) {
-        try {
-            APIConnector.GameResult gameResult = findIGDBGame(product.gameId(), product.title());
-            String description = gameResult == null || gameResult.getSummary() == null ? "" : gameResult.getSummary();
-            String thumbCoverImageURL = gameResult == null || gameResult.getThumbCoverURL() == null
-                    ? Utils.PLACEHOLDER_COVER_URL
-                    : gameResult.getThumbCoverURL();
-            String coverImageURL = gameResult == null || gameResult.getCoverURL() == null
-                    ? Utils.PLACEHOLDER_COVER_URL
-                    : gameResult.getCoverURL();
-
-            var game = ItchGame.builder(
-                            product.title(),
-                            description,
-                            product.launchTarget(),
-                            product.gameId(),
-                            product.caveId(),
-                            product.url(),
-                            product.installPath()
-                    )
-                    .images(thumbCoverImageURL, coverImageURL)
-                    .igdbGameId(gameResult == null ? null : gameResult.getIgdbGameId())
-                    .nickname(product.title())
-                    .build();
-
-            Utils.runOnFxThread(() -> {
-                if (!Database.getInstance().addGame(game)) {
-                    Database.getInstance().updateGame(game, game);
-                }
-            });
-        } finally {
-            progressMonitor.worked(1);
-        }
+    private static void addItchGame(GameBatch batch, ItchProduct product, Path databasePath) {
+        APIConnector.GameResult gameResult = findIGDBGame(product.gameId(), product.title());
+        String description = gameResult == null || gameResult.getSummary() == null ? "" : gameResult.getSummary();
+        String thumbCoverImageURL = gameResult == null || gameResult.getThumbCoverURL() == null
+                ? Utils.PLACEHOLDER_COVER_URL
+                : gameResult.getThumbCoverURL();
+        String coverImageURL = gameResult == null || gameResult.getCoverURL() == null
+                ? Utils.PLACEHOLDER_COVER_URL
+                : gameResult.getCoverURL();
+
+        var game = ItchGame.builder(
+                        product.title(),
+                        description,
+                        product.launchTarget(),
+                        product.gameId(),
+                        product.caveId(),
+                        product.url(),
+                        product.installPath()
+                )
+                .images(thumbCoverImageURL, coverImageURL)
+                .igdbGameId(gameResult == null ? null : gameResult.getIgdbGameId())
+                .nickname(product.title())
+                .databasePath(databasePath)
+                .build();
+
+        batch.add(game);
     }
 
     private static @Nullable ItchProduct readProduct(ResultSet resultSet) {
@@ -358,6 +362,10 @@ public final class ItchPlatform implements Platform {
         };
     }
 
+    private static List<Path> getDatabasePaths() {
+        return Database.getInstance().getLibrarySources("itch", getDefaultDatabasePath());
+    }
+
     private static boolean isValidDatabaseFile(String databasePath) {
         return isValidDatabaseFile(Utils.toPathOrNull(databasePath));
     }
@@ -443,6 +451,47 @@ public final class ItchPlatform implements Platform {
         };
     }
 
+    @Override
+    public List<Path> getWatchedPaths() {
+        return getDatabasePaths();
+    }
+
+    // butler.db records every install and uninstall, so it stands in for watching each install location.
+    // Only games recorded as coming from a database that was read can be removed; the rest are kept.
+    @Override
+    public void onWatchedPathsChanged(Set<Path> changedPaths) {
+        Map<Path, List<ItchProduct>> productsByDatabase = new LinkedHashMap<>();
+        for (Path databasePath : getDatabasePaths()) {
+            List<ItchProduct> products = isValidDatabaseFile(databasePath) ? readProducts(databasePath) : null;
+            if (products != null)
+                productsByDatabase.put(databasePath, products);
+        }
+
+        if (productsByDatabase.isEmpty())
+            return;
+
+        Set<String> installedCaveIds = new HashSet<>();
+        productsByDatabase.values().forEach(products -> products.forEach(product ->
+                installedCaveIds.add(product.caveId())));
+
+        Set<String> knownCaveIds = Database.getInstance().retainInstalledGames(
+                ItchGame.class,
+                game -> Database.isFromLibrarySource(game.getDatabasePath(), productsByDatabase.keySet()),
+                ItchGame::getCaveId,
+                installedCaveIds
+        );
+        try (var batch = new GameBatch();
+             var tasks = DiscoveryScheduler.getInstance().open("itch.io", ProgressMonitor.NONE)) {
+            productsByDatabase.forEach((databasePath, products) -> {
+                for (ItchProduct product : products) {
+                    if (knownCaveIds.add(product.caveId())) {
+                        tasks.submit(() -> addItchGame(batch, product, databasePath));
+                    }
+                }
+            });
+        }
+    }
+
     @Override
     public ManualEntryView createManualEntryView() {
         var form = new ManualEntryForm(
@@ -468,7 +517,9 @@ public final class ItchPlatform implements Platform {
                 return;
 
             form.hideError();
-            ManualEntryForm.runAsync(progressMonitor, () -> addItchGames(progressMonitor, Path.of(databasePath)));
+            Path path = Path.of(databasePath);
+            Database.getInstance().addLibrarySource("itch", path);
+            ManualEntryForm.runAsync(progressMonitor, () -> addItchGames(progressMonitor, path));
         });
     }
 
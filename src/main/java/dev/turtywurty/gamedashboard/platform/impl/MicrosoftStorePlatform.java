@@ -6,7 +6,8 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import dev.turtywurty.gamedashboard.GameDashboardApp;
 import dev.turtywurty.gamedashboard.data.APIConnector;
-import dev.turtywurty.gamedashboard.data.Database;
+import dev.turtywurty.gamedashboard.data.DiscoveryScheduler;
+import dev.turtywurty.gamedashboard.data.GameBatch;
 import dev.turtywurty.gamedashboard.data.game.impl.MicrosoftStoreGame;
 import dev.turtywurty.gamedashboard.platform.ManualEntryForm;
 import dev.turtywurty.gamedashboard.platform.Platform;
@@ -116,13 +117,15 @@ public final class MicrosoftStorePlatform implements Platform {
         }
 
         progressMonitor.start("Loading Microsoft Store games", installations.size());
-        for (MicrosoftStoreInstallation installation : installations) {
-            addGame(progressMonitor, installation);
+        try (var batch = new GameBatch();
+             var tasks = DiscoveryScheduler.getInstance().open("Microsoft Store", progressMonitor)) {
+            for (MicrosoftStoreInstallation installation : installations) {
+                tasks.submit(() -> addGame(batch, installation));
+            }
         }
-        progressMonitor.done();
     }
 
-    private static void addGame(ProgressMonitor progressMonitor, MicrosoftStoreInstallation installation) {
+    private static void addGame(GameBatch batch, MicrosoftStoreInstallation installation) {
         try {
             APIConnector.GameResult metadata = findMetadata(installation.displayName());
             MicrosoftStoreGame game = MicrosoftStoreGame.builder(
@@ -151,15 +154,9 @@ public final class MicrosoftStorePlatform implements Platform {
                     installation.packageFamilyName(),
                     installation.installRoot()
             );
-            Utils.runOnFxThread(() -> {
-                if (!Database.getInstance().addGame(game)) {
-                    Database.getInstance().updateGame(game, game);
-                }
-            });
+            batch.add(game);
         } catch (RuntimeException exception) {
             GameDashboardApp.LOGGER.error("Failed to load Microsoft Store/Xbox title '{}'", installation.displayName(), exception);
-        } finally {
-            progressMonitor.worked(1);
         }
     }
 
@@ -4,7 +4,8 @@ import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import dev.turtywurty.gamedashboard.GameDashboardApp;
 import dev.turtywurty.gamedashboard.data.APIConnector;
-import dev.turtywurty.gamedashboard.data.Database;
+import dev.turtywurty.gamedashboard.data.DiscoveryScheduler;
+import dev.turtywurty.gamedashboard.data.GameBatch;
 import dev.turtywurty.gamedashboard.data.game.impl.RiotGame;
 import dev.turtywurty.gamedashboard.platform.ManualEntryForm;
 import dev.turtywurty.gamedashboard.platform.Platform;
@@ -28,8 +29,6 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -122,16 +121,15 @@ public final class RiotPlatform implements Platform {
         }
 
         progressMonitor.start("Loading Riot Games titles", installations.size());
-        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        try (var batch = new GameBatch();
+             var tasks = DiscoveryScheduler.getInstance().open("Riot Games", progressMonitor)) {
             for (RiotInstallation installation : installations) {
-                executor.submit(() -> addGame(progressMonitor, installation));
+                tasks.submit(() -> addGame(batch, installation));
             }
-        } finally {
-            progressMonitor.done();
         }
     }
 
-    private static void addGame(ProgressMonitor progressMonitor, RiotInstallation installation) {
+    private static void addGame(GameBatch batch, RiotInstallation installation) {
         try {
             APIConnector.GameResult metadata = findMetadata(installation.title());
             RiotGame game = RiotGame.builder(
@@ -157,15 +155,9 @@ public final class RiotPlatform implements Platform {
                     installation.patchline(),
                     installation.installLocation()
             );
-            Utils.runOnFxThread(() -> {
-                if (!Database.getInstance().addGame(game)) {
-                    Database.getInstance().updateGame(game, game);
-                }
-            });
+            batch.add(game);
         } catch (RuntimeException exception) {
             GameDashboardApp.LOGGER.error("Failed to load Riot Games title '{}'", installation.title(), exception);
-        } finally {
-            progressMonitor.worked(1);
         }
     }
 
@@ -11,7 +11,10 @@ import javafx.stage.FileChooser;
 
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 
 public final class SteamPlatform implements Platform {
@@ -64,6 +67,41 @@ public final class SteamPlatform implements Platform {
         };
     }
 
+    @Override
+    public List<Path> getWatchedPaths() {
+        Database database = Database.getInstance();
+        if (!database.isSteamConfigured())
+            return List.of();
+
+        Path libraryFoldersPath;
+        try {
+            libraryFoldersPath = Path.of(database.getSteamLibraryFolders());
+        } catch (InvalidPathException exception) {
+            return List.of();
+        }
+
+        List<Path> paths = new ArrayList<>();
+        paths.add(libraryFoldersPath);
+        for (Path libraryFolder : SteamHandler.getLibraryFolderGameMap(libraryFoldersPath).keySet()) {
+            paths.add(libraryFolder.resolve("steamapps"));
+        }
+
+        return paths;
+    }
+
+    // The fingerprinted sync only reparses manifests that changed, so any relevant change just triggers one.
+    @Override
+    public void onWatchedPathsChanged(Set<Path> changedPaths) {
+        boolean relevant = changedPaths.stream()
+                .map(path -> path.getFileName() == null ? "" : path.getFileName().toString())
+                .anyMatch(name -> name.equals("steamapps")
+                        || name.equalsIgnoreCase("libraryfolders.vdf")
+                        || (name.startsWith("appmanifest_") && name.endsWith(".acf")));
+        if (relevant) {
+            Database.getInstance().resyncSteam();
+        }
+    }
+
     @Override
     public ManualEntryView createManualEntryView() {
         var form = new ManualEntryForm(
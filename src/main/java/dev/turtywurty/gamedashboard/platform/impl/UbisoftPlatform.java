@@ -2,7 +2,8 @@ package dev.turtywurty.gamedashboard.platform.impl;
 
 import dev.turtywurty.gamedashboard.GameDashboardApp;
 import dev.turtywurty.gamedashboard.data.APIConnector;
-import dev.turtywurty.gamedashboard.data.Database;
+import dev.turtywurty.gamedashboard.data.DiscoveryScheduler;
+import dev.turtywurty.gamedashboard.data.GameBatch;
 import dev.turtywurty.gamedashboard.data.game.impl.UbisoftGame;
 import dev.turtywurty.gamedashboard.platform.ManualEntryForm;
 import dev.turtywurty.gamedashboard.platform.Platform;
@@ -15,8 +16,6 @@ import javafx.scene.image.Image;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -51,16 +50,15 @@ public final class UbisoftPlatform implements Platform {
         }
 
         progressMonitor.start("Loading Ubisoft Connect games", installations.size());
-        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        try (var batch = new GameBatch();
+             var tasks = DiscoveryScheduler.getInstance().open("Ubisoft Connect", progressMonitor)) {
             for (UbisoftInstallation installation : installations)
-                executor.submit(() -> addGame(progressMonitor, installation));
-        } finally {
-            progressMonitor.done();
+                tasks.submit(() -> addGame(batch, installation));
         }
     }
 
     private static void addGame(
-            ProgressMonitor progressMonitor,
+            GameBatch batch,
             UbisoftInstallation installation
     ) {
         try {
@@ -100,18 +98,13 @@ public final class UbisoftPlatform implements Platform {
                     installation.gameId(),
                     installation.installLocation()
             );
-            Utils.runOnFxThread(() -> {
-                if (!Database.getInstance().addGame(game))
-                    Database.getInstance().updateGame(game, game);
-            });
+            batch.add(game);
         } catch (RuntimeException exception) {
             GameDashboardApp.LOGGER.error(
                     "Failed to load Ubisoft Connect game '{}'",
                     installation.title(),
                     exception
             );
-        } finally {
-            progressMonitor.worked(1);
         }
     }
 
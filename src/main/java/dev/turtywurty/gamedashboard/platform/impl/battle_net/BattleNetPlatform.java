@@ -4,6 +4,8 @@ import com.google.gson.JsonObject;
 import dev.turtywurty.gamedashboard.GameDashboardApp;
 import dev.turtywurty.gamedashboard.data.APIConnector;
 import dev.turtywurty.gamedashboard.data.Database;
+import dev.turtywurty.gamedashboard.data.DiscoveryScheduler;
+import dev.turtywurty.gamedashboard.data.GameBatch;
 import dev.turtywurty.gamedashboard.data.game.impl.BattleNetGame;
 import dev.turtywurty.gamedashboard.platform.ManualEntryForm;
 import dev.turtywurty.gamedashboard.platform.Platform;
@@ -12,14 +14,13 @@ import dev.turtywurty.gamedashboard.util.ProgressMonitor;
 import dev.turtywurty.gamedashboard.util.Utils;
 import javafx.scene.image.Image;
 import javafx.stage.FileChooser;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -54,6 +55,46 @@ public final class BattleNetPlatform implements Platform {
         };
     }
 
+    @Override
+    public List<Path> getWatchedPaths() {
+        return getProductDbPaths();
+    }
+
+    // Only games recorded as coming from a product.db that was read can be removed; the rest are kept.
+    @Override
+    public void onWatchedPathsChanged(Set<Path> changedPaths) {
+        Map<Path, List<BattleNetInstallation>> installationsByDatabase = new LinkedHashMap<>();
+        for (Path productDbPath : getProductDbPaths()) {
+            List<BattleNetInstallation> installations = Files.isRegularFile(productDbPath) ? discover(productDbPath) : null;
+            if (installations != null)
+                installationsByDatabase.put(productDbPath, installations);
+        }
+
+        if (installationsByDatabase.isEmpty())
+            return;
+
+        Set<String> installedProductCodes = new HashSet<>();
+        installationsByDatabase.values().forEach(installations -> installations.forEach(installation ->
+                installedProductCodes.add(installation.productCode().toLowerCase(Locale.ROOT))));
+
+        Set<String> knownProductCodes = Database.getInstance().retainInstalledGames(
+                BattleNetGame.class,
+                game -> Database.isFromLibrarySource(game.getDatabasePath(), installationsByDatabase.keySet()),
+                game -> game.getProductCode().toLowerCase(Locale.ROOT),
+                installedProductCodes
+        );
+        try (var batch = new GameBatch();
+             var tasks = DiscoveryScheduler.getInstance().open("Battle.net", ProgressMonitor.NONE)) {
+            installationsByDatabase.forEach((productDbPath, installations) -> {
+                for (BattleNetInstallation installation : installations) {
+                    if (knownProductCodes.add(installation.productCode().toLowerCase(Locale.ROOT))) {
+                        tasks.submit(() -> addBattleNetGame(batch, installation, productDbPath));
+                    }
+                }
+            });
+        }
+    }
+
     @Override
     public ManualEntryView createManualEntryView() {
         var form = new ManualEntryForm(
@@ -84,10 +125,9 @@ public final class BattleNetPlatform implements Platform {
                 return;
 
             form.hideError();
-            ManualEntryForm.runAsync(
-                    progressMonitor,
-                    () -> addBattleNetGames(progressMonitor, Path.of(productDbPath))
-            );
+            Path path = Path.of(productDbPath);
+            Database.getInstance().addLibrarySource("battle_net", path);
+            ManualEntryForm.runAsync(progressMonitor, () -> addBattleNetGames(progressMonitor, path));
         });
     }
 
@@ -99,6 +139,10 @@ public final class BattleNetPlatform implements Platform {
         };
     }
 
+    private static List<Path> getProductDbPaths() {
+        return Database.getInstance().getLibrarySources("battle_net", getDefaultProductDbPath());
+    }
+
     private static String getProgramDataPath() {
         String programData = System.getenv("PROGRAMDATA");
         return programData == null || programData.isBlank() ? "C:\\ProgramData" : programData;
@@ -119,25 +163,25 @@ public final class BattleNetPlatform implements Platform {
         List<BattleNetInstallation> installations = discover(productDbPath);
         progressMonitor.worked(1);
 
-        if (installations.isEmpty()) {
+        if (installations == null || installations.isEmpty()) {
             progressMonitor.done();
             return;
         }
 
         progressMonitor.start("Loading Battle.net games", installations.size());
 
-        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        try (var batch = new GameBatch();
+             var tasks = DiscoveryScheduler.getInstance().open("Battle.net", progressMonitor)) {
             for (BattleNetInstallation installation : installations) {
-                executor.submit(() -> addBattleNetGame(progressMonitor, installation));
+                tasks.submit(() -> addBattleNetGame(batch, installation, productDbPath));
             }
-        } finally {
-            progressMonitor.done();
         }
     }
 
     private static void addBattleNetGame(
-            ProgressMonitor progressMonitor,
-            BattleNetInstallation installation
+            GameBatch batch,
+            BattleNetInstallation installation,
+            Path productDbPath
     ) {
         try {
             APIConnector.GameResult metadata = APIConnector.findBestFuzzyGameMatch(
@@ -169,21 +213,17 @@ public final class BattleNetPlatform implements Platform {
                     .images(thumbnail, cover)
                     .igdbGameId(metadata == null ? null : metadata.getIgdbGameId())
                     .nickname(installation.title())
+                    .databasePath(productDbPath)
                     .build();
             resourceUrl(installation.logo()).ifPresent(game::setCoverLogoImageURL);
 
-            Utils.runOnFxThread(() -> {
-                if (!Database.getInstance().addGame(game))
-                    Database.getInstance().updateGame(game, game);
-            });
+            batch.add(game);
         } catch (RuntimeException exception) {
             GameDashboardApp.LOGGER.error(
                     "Failed to load Battle.net game '{}'",
                     installation.title(),
                     exception
             );
-        } finally {
-            progressMonitor.worked(1);
         }
     }
 
@@ -191,7 +231,8 @@ public final class BattleNetPlatform implements Platform {
         return "battle.net://launch/" + productCode;
     }
 
-    private static List<BattleNetInstallation> discover(Path productDbPath) {
+    // Null when the database could not be read, as opposed to an empty list when nothing is installed.
+    private static @Nullable List<BattleNetInstallation> discover(Path productDbPath) {
         if (productDbPath == null || !Files.isRegularFile(productDbPath))
             return Collections.emptyList();
 
@@ -205,7 +246,7 @@ public final class BattleNetPlatform implements Platform {
                     .toList();
         } catch (IOException | RuntimeException exception) {
             GameDashboardApp.LOGGER.error("Failed to parse Battle.net product database: {}", productDbPath, exception);
-            return Collections.emptyList();
+            return null;
         }
     }
 
@@ -2,7 +2,8 @@ package dev.turtywurty.gamedashboard.platform.impl.ea;
 
 import dev.turtywurty.gamedashboard.GameDashboardApp;
 import dev.turtywurty.gamedashboard.data.APIConnector;
-import dev.turtywurty.gamedashboard.data.Database;
+import dev.turtywurty.gamedashboard.data.DiscoveryScheduler;
+import dev.turtywurty.gamedashboard.data.GameBatch;
 import dev.turtywurty.gamedashboard.data.game.impl.EAAppGame;
 import dev.turtywurty.gamedashboard.platform.ManualEntryForm;
 import dev.turtywurty.gamedashboard.platform.Platform;
@@ -20,8 +21,6 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Year;
 import java.util.*;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -52,16 +51,15 @@ public final class EAPlatform implements Platform {
 
         EAArtworkCache artworkCache = EAArtworkCache.loadDefault();
         progressMonitor.start("Loading EA app games", installations.size());
-        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        try (var batch = new GameBatch();
+             var tasks = DiscoveryScheduler.getInstance().open("EA app", progressMonitor)) {
             for (EAInstallation installation : installations)
-                executor.submit(() -> addGame(progressMonitor, installation, artworkCache));
-        } finally {
-            progressMonitor.done();
+                tasks.submit(() -> addGame(batch, installation, artworkCache));
         }
     }
 
     private static void addGame(
-            ProgressMonitor progressMonitor,
+            GameBatch batch,
             EAInstallation installation,
             EAArtworkCache artworkCache
     ) {
@@ -98,14 +96,9 @@ public final class EAPlatform implements Platform {
                     installation.title(),
                     installation.installLocation()
             );
-            Utils.runOnFxThread(() -> {
-                if (!Database.getInstance().addGame(game))
-                    Database.getInstance().updateGame(game, game);
-            });
+            batch.add(game);
         } catch (RuntimeException exception) {
             GameDashboardApp.LOGGER.error("Failed to load EA app game '{}'", installation.title(), exception);
-        } finally {
-            progressMonitor.worked(1);
         }
     }
 
@@ -116,11 +116,7 @@ public class RobloxPlatform implements Platform {
         var game = getGame(metadata, launchTarget.get());
 
         GameDashboardApp.LOGGER.info("Found Roblox installation at {}", installDirectory);
-        Utils.runOnFxThread(() -> {
-            if (!Database.getInstance().addGame(game)) {
-                Database.getInstance().updateGame(game, game);
-            }
-        });
+        Utils.runOnFxThread(() -> Database.getInstance().mergeGames(List.of(game)));
         progressMonitor.worked(1);
         progressMonitor.done();
     }
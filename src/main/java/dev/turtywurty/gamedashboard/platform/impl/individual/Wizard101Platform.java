@@ -111,11 +111,7 @@ public class Wizard101Platform implements Platform {
         var game = getGame(metadata, executable);
 
         GameDashboardApp.LOGGER.info("Found Wizard101 installation at {}", installDirectory);
-        Utils.runOnFxThread(() -> {
-            if (!Database.getInstance().addGame(game)) {
-                Database.getInstance().updateGame(game, game);
-            }
-        });
+        Utils.runOnFxThread(() -> Database.getInstance().mergeGames(List.of(game)));
         progressMonitor.worked(1);
         progressMonitor.done();
     }
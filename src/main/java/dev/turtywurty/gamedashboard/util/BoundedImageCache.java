@@ -0,0 +1,177 @@
+package dev.turtywurty.gamedashboard.util;
+
+import javafx.scene.image.Image;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class BoundedImageCache {
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final long maxBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75F, true);
+    private final Map<String, SoftEntry> softEntries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Image> clearedEntries = new ReferenceQueue<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong softHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private long currentBytes;
+
+    BoundedImageCache(long maxBytes) {
+        if (maxBytes <= 0)
+            throw new IllegalArgumentException("maxBytes must be positive");
+
+        this.maxBytes = maxBytes;
+    }
+
+    Image get(String key) {
+        expungeClearedEntries();
+
+        this.lock.lock();
+        try {
+            Entry entry = this.entries.get(key);
+            if (entry != null) {
+                this.hits.incrementAndGet();
+                return entry.image();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+
+        SoftEntry softEntry = this.softEntries.remove(key);
+        Image image = softEntry == null ? null : softEntry.get();
+        if (image == null) {
+            this.misses.incrementAndGet();
+            return null;
+        }
+
+        // The GC has not reclaimed the evicted image yet, so promote it back instead of decoding it again.
+        this.softHits.incrementAndGet();
+        put(key, image);
+        return image;
+    }
+
+    void put(String key, Image image) {
+        if (key == null || image == null)
+            return;
+
+        expungeClearedEntries();
+        this.softEntries.remove(key);
+
+        long weight = weigh(image);
+        this.lock.lock();
+        try {
+            Entry previous = this.entries.put(key, new Entry(image, weight));
+            if (previous != null)
+                this.currentBytes -= previous.weight();
+            this.currentBytes += weight;
+            evictToBudget();
+        } finally {
+            this.lock.unlock();
+        }
+
+        // Background loads report a size of zero until decoding finishes, so charge them once they are done.
+        // The listener goes on before progress is re-checked, so a load finishing in between is still charged.
+        if (weight == 0) {
+            image.progressProperty().addListener((observable, oldValue, newValue) -> {
+                if (newValue.doubleValue() >= 1)
+                    reweigh(key, image);
+            });
+
+            if (image.getProgress() >= 1)
+                reweigh(key, image);
+        }
+    }
+
+    void invalidate(String key) {
+        this.softEntries.remove(key);
+
+        this.lock.lock();
+        try {
+            Entry removed = this.entries.remove(key);
+            if (removed != null)
+                this.currentBytes -= removed.weight();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    ImageCache.CacheStats stats() {
+        this.lock.lock();
+        try {
+            return new ImageCache.CacheStats(
+                    this.hits.get(),
+                    this.softHits.get(),
+                    this.misses.get(),
+                    this.evictions.get(),
+                    this.entries.size(),
+                    this.softEntries.size(),
+                    this.currentBytes,
+                    this.maxBytes
+            );
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void reweigh(String key, Image image) {
+        long weight = weigh(image);
+        this.lock.lock();
+        try {
+            Entry entry = this.entries.get(key);
+            if (entry == null || entry.image() != image || entry.weight() == weight)
+                return;
+
+            this.entries.put(key, new Entry(image, weight));
+            this.currentBytes += weight - entry.weight();
+            evictToBudget();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void evictToBudget() {
+        Iterator<Map.Entry<String, Entry>> iterator = this.entries.entrySet().iterator();
+        while (this.currentBytes > this.maxBytes && this.entries.size() > 1 && iterator.hasNext()) {
+            Map.Entry<String, Entry> eldest = iterator.next();
+            iterator.remove();
+            this.currentBytes -= eldest.getValue().weight();
+            this.evictions.incrementAndGet();
+            this.softEntries.put(eldest.getKey(), new SoftEntry(eldest.getKey(), eldest.getValue().image(), this.clearedEntries));
+        }
+    }
+
+    private void expungeClearedEntries() {
+        Reference<? extends Image> reference;
+        while ((reference = this.clearedEntries.poll()) != null) {
+            if (reference instanceof SoftEntry softEntry)
+                this.softEntries.remove(softEntry.key, softEntry);
+        }
+    }
+
+    private static long weigh(Image image) {
+        return (long) Math.ceil(image.getWidth()) * (long) Math.ceil(image.getHeight()) * BYTES_PER_PIXEL;
+    }
+
+    private record Entry(Image image, long weight) {
+    }
+
+    private static final class SoftEntry extends SoftReference<Image> {
+        private final String key;
+
+        private SoftEntry(String key, Image image, ReferenceQueue<Image> queue) {
+            super(image, queue);
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package dev.turtywurty.gamedashboard.util;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// File names for the on-disk caches: the SHA-256 of a key, nested under directories named after its leading bytes.
+public final class HashedPaths {
+    private HashedPaths() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+
+    // Each level uses the next byte of the hash, so no directory holds more than 256 shards.
+    public static Path resolve(Path root, String hash, int levels, String suffix) {
+        Path directory = root;
+        for (int level = 0; level < levels; level++) {
+            directory = directory.resolve(hash.substring(level * 2, level * 2 + 2));
+        }
+
+        return directory.resolve(hash + suffix);
+    }
+
+    public static boolean isHash(String value) {
+        return value.length() == 64 && value.chars().allMatch(character -> Character.digit(character, 16) >= 0);
+    }
+}
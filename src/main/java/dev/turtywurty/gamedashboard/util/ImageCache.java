@@ -3,70 +3,130 @@ package dev.turtywurty.gamedashboard.util;
 import dev.turtywurty.gamedashboard.GameDashboardApp;
 import javafx.embed.swing.SwingFXUtils;
 import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
 import javafx.scene.image.WritableImage;
+import javafx.stage.Screen;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
 
+import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Base64;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.UnaryOperator;
 
 public class ImageCache {
     private static final Path CACHE_DIR = Path.of(System.getProperty("user.home"), ".cache", "game-dashboard");
-    private static final Map<String, Image> CACHE = new HashMap<>();
+    private static final long DEFAULT_MEMORY_BUDGET_BYTES = 192L * 1024 * 1024;
+    private static final long DEFAULT_DISK_BUDGET_BYTES = 512L * 1024 * 1024;
+    private static final ImageDiskCache DISK_CACHE = new ImageDiskCache(CACHE_DIR,
+            Math.max(1, Long.getLong("gamedashboard.imageCache.maxDiskBytes", DEFAULT_DISK_BUDGET_BYTES)));
+    private static final OkHttpClient HTTP_CLIENT = new OkHttpClient();
+    private static final BoundedImageCache CACHE = new BoundedImageCache(
+            Math.max(1, Long.getLong("gamedashboard.imageCache.maxBytes", DEFAULT_MEMORY_BUDGET_BYTES)));
     private static final String PLACEHOLDER_IMAGE_URL =
             ImageCache.class.getResource("/images/questionmark_placeholder.png") == null
                     ? null
                     : ImageCache.class.getResource("/images/questionmark_placeholder.png").toExternalForm();
+    private static final int LOADER_THREADS = Math.clamp(Runtime.getRuntime().availableProcessors() / 2, 2, 4);
+    private static final ExecutorService LOAD_EXECUTOR = Executors.newFixedThreadPool(LOADER_THREADS,
+            Thread.ofPlatform().daemon().name("image-loader-", 0).factory());
+    private static final Map<String, CompletableFuture<Image>> IN_FLIGHT_LOADS = new ConcurrentHashMap<>();
+    private static final String REQUESTED_URL_KEY = ImageCache.class.getName() + ".requestedURL";
+    private static final float THUMBNAIL_JPEG_QUALITY = 0.9F;
 
-    public static Image getImage(String url) {
-        return getImage(url, true, true, false);
-    }
+    private static volatile Image placeholderImage;
 
-    public static Image getImage(String url, boolean fromCache, boolean toCache, boolean background) {
+    // Only reached through getImageAsync, so disk reads, downloads and decoding always run on the loader pool.
+    private static Image getImage(
+            String url,
+            int requestedWidth,
+            int requestedHeight,
+            boolean fill,
+            boolean fromCache,
+            boolean toCache,
+            boolean background
+    ) {
         if (url == null || url.isBlank())
             return getPlaceholderImage(background);
 
-        if (fromCache && CACHE.containsKey(url))
-            return CACHE.get(url);
+        String key = cacheKey(url, requestedWidth, requestedHeight, fill);
+        if (fromCache) {
+            Image cached = CACHE.get(key);
+            if (cached != null)
+                return cached;
+        }
 
         try {
-            String filename = scrambleURL(url);
-            Path path = Path.of(CACHE_DIR.toString(), filename);
-            Files.createDirectories(path.getParent());
-            if (Files.exists(path)) {
-                var image = new Image(path.toUri().toString(), background);
+            if (!isHttpURL(url)) {
+                var image = loadImage(url, requestedWidth, requestedHeight, fill, background);
                 if (!isUsable(image))
                     return getPlaceholderImage(background);
 
-                if (toCache) {
-                    CACHE.put(url, image);
-                }
-
+                if (toCache)
+                    CACHE.put(key, image);
                 return image;
             }
 
-            var image = loadImage(url, background);
-            if (!isUsable(image))
-                return getPlaceholderImage(background);
+            boolean thumbnail = !key.equals(url);
+            if (fromCache && thumbnail) {
+                Optional<ImageDiskCache.Entry> cachedThumbnail = DISK_CACHE.read(key);
+                if (cachedThumbnail.isPresent()) {
+                    Image image = decode(cachedThumbnail.get(), 0, 0, false, background);
+                    if (isUsable(image)) {
+                        if (toCache)
+                            CACHE.put(key, image);
+                        return image;
+                    }
 
-            if (toCache) {
-                CACHE.put(url, image);
+                    DISK_CACHE.delete(key);
+                }
+            }
 
-                BufferedImage bufferedImage = SwingFXUtils.fromFXImage(image, null);
-                if (bufferedImage != null) {
-                    ImageIO.write(bufferedImage, "png", path.toFile());
-                } else {
-                    GameDashboardApp.LOGGER.warn("Failed to convert FX Image to BufferedImage for caching: {}", url);
+            ImageDiskCache.Entry original = fromCache ? DISK_CACHE.read(url).orElse(null) : null;
+            if (original == null) {
+                if (!toCache) {
+                    var image = loadImage(url, requestedWidth, requestedHeight, fill, background);
+                    return isUsable(image) ? image : getPlaceholderImage(background);
                 }
+
+                original = fetchToDisk(url);
+            }
+
+            Image image = thumbnail && !background
+                    ? createThumbnail(key, original, requestedWidth, requestedHeight, fill, toCache)
+                    : null;
+            if (image == null)
+                image = decode(original, requestedWidth, requestedHeight, fill, background);
+            if (!isUsable(image)) {
+                DISK_CACHE.delete(url);
+                return getPlaceholderImage(background);
             }
 
+            if (toCache)
+                CACHE.put(key, image);
+
             return image;
         } catch (IOException | RuntimeException exception) {
             GameDashboardApp.LOGGER.warn("Failed to load image: {}", url, exception);
@@ -74,37 +134,327 @@ public class ImageCache {
         }
     }
 
-    private static String scrambleURL(String url) {
-        return Base64.getUrlEncoder().encodeToString(url.getBytes());
+    private static ImageDiskCache.Entry fetchToDisk(String url) throws IOException {
+        var request = new Request.Builder()
+                .url(url)
+                .get()
+                .build();
+
+        try (Response response = HTTP_CLIENT.newCall(request).execute()) {
+            if (!response.isSuccessful())
+                throw new IOException("Unexpected image response " + response.code() + " for " + url);
+
+            MediaType mediaType = response.body().contentType();
+            return DISK_CACHE.write(
+                    url,
+                    response.body().byteStream(),
+                    mediaType == null ? null : mediaType.type() + "/" + mediaType.subtype(),
+                    response.header("ETag")
+            );
+        }
     }
 
-    private static String unscrambleURL(String url) {
-        return new String(Base64.getUrlDecoder().decode(url));
+    // Returns null when ImageIO cannot read the original, so the caller falls back to decoding it with JavaFX.
+    private static Image createThumbnail(
+            String key,
+            ImageDiskCache.Entry original,
+            int width,
+            int height,
+            boolean fill,
+            boolean toCache
+    ) throws IOException {
+        BufferedImage source = ImageIO.read(original.path().toFile());
+        if (source == null)
+            return null;
+
+        BufferedImage thumbnail = scale(source, width, height, fill);
+        // An original that needs no scaling or cropping is already on disk, so it is not stored a second time.
+        if (toCache && thumbnail != source)
+            storeThumbnail(key, thumbnail);
+
+        return SwingFXUtils.toFXImage(thumbnail, null);
     }
 
-    private static Image loadImage(String url, boolean background) {
-        Image image = null;
+    // Opaque thumbnails are stored as JPEG; PNG is only used where there is transparency to keep.
+    private static void storeThumbnail(String key, BufferedImage thumbnail) {
         try {
-            image = new Image(url, background);
-            if (isUsable(image))
+            var bytes = new ByteArrayOutputStream();
+            if (thumbnail.getColorModel().hasAlpha()) {
+                ImageIO.write(thumbnail, "png", bytes);
+                DISK_CACHE.write(key, new ByteArrayInputStream(bytes.toByteArray()), "image/png", null);
+            } else {
+                writeJpeg(thumbnail, bytes);
+                DISK_CACHE.write(key, new ByteArrayInputStream(bytes.toByteArray()), "image/jpeg", null);
+            }
+        } catch (IOException exception) {
+            GameDashboardApp.LOGGER.debug("Failed to store thumbnail {}", key, exception);
+        }
+    }
+
+    private static void writeJpeg(BufferedImage image, ByteArrayOutputStream bytes) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext())
+            throw new IOException("No JPEG writer available");
+
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+            ImageWriteParam parameters = writer.getDefaultWriteParam();
+            parameters.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            parameters.setCompressionQuality(THUMBNAIL_JPEG_QUALITY);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), parameters);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static Image decode(ImageDiskCache.Entry entry, int width, int height, boolean fill, boolean background) throws IOException {
+        String contentType = entry.metadata().contentType();
+        boolean webP = isWebPURL(entry.metadata().url())
+                || contentType != null && contentType.toLowerCase(Locale.ROOT).endsWith("/webp");
+        if (!webP && !fill) {
+            var image = new Image(entry.path().toUri().toString(), width, height, true, true, background);
+            if (background || isUsable(image))
                 return image;
-        } catch (RuntimeException exception) {
-            if (!isWebPURL(url))
-                throw exception;
         }
 
-        if (!isWebPURL(url))
-            return image;
+        BufferedImage bufferedImage = ImageIO.read(entry.path().toFile());
+        if (bufferedImage != null)
+            return SwingFXUtils.toFXImage(scale(bufferedImage, width, height, fill), null);
+
+        // Formats ImageIO cannot read are still shown, fitted rather than cropped.
+        return fill && !webP ? new Image(entry.path().toUri().toString(), width, height, true, true, background) : null;
+    }
+
+    // Fitting keeps the whole image inside the box; filling crops the centre to the box's shape first.
+    // Images are only ever scaled down.
+    private static BufferedImage scale(BufferedImage source, int width, int height, boolean fill) {
+        BufferedImage cropped = source;
+        if (fill && width > 0 && height > 0) {
+            int cropWidth = (int) Math.min(source.getWidth(), Math.round((double) source.getHeight() * width / height));
+            int cropHeight = (int) Math.min(source.getHeight(), Math.round((double) source.getWidth() * height / width));
+            if (cropWidth < source.getWidth() || cropHeight < source.getHeight()) {
+                cropped = source.getSubimage(
+                        (source.getWidth() - cropWidth) / 2,
+                        (source.getHeight() - cropHeight) / 2,
+                        Math.max(1, cropWidth),
+                        Math.max(1, cropHeight)
+                );
+            }
+        }
+
+        double scale = Math.min(
+                width > 0 ? (double) width / cropped.getWidth() : Double.MAX_VALUE,
+                height > 0 ? (double) height / cropped.getHeight() : Double.MAX_VALUE
+        );
+        if (scale >= 1)
+            return cropped == source ? source : resize(cropped, cropped.getWidth(), cropped.getHeight());
+
+        int scaledWidth = Math.max(1, (int) Math.round(cropped.getWidth() * scale));
+        int scaledHeight = Math.max(1, (int) Math.round(cropped.getHeight() * scale));
+        // Halving first keeps a large reduction from skipping source pixels, which one bilinear pass would do.
+        BufferedImage scaled = cropped;
+        while (scaled.getWidth() / 2 >= scaledWidth && scaled.getHeight() / 2 >= scaledHeight) {
+            scaled = resize(scaled, scaled.getWidth() / 2, scaled.getHeight() / 2);
+        }
 
+        return resize(scaled, scaledWidth, scaledHeight);
+    }
+
+    private static BufferedImage resize(BufferedImage source, int width, int height) {
+        var resized = new BufferedImage(
+                width,
+                height,
+                source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB
+        );
+        Graphics2D graphics = resized.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(source, 0, 0, width, height, null);
+        graphics.dispose();
+        return resized;
+    }
+
+    private static String cacheKey(String url, int width, int height, boolean fill) {
+        if (width == 0 && height == 0)
+            return url;
+
+        return url + "#" + width + "x" + height + (fill ? "-fill" : "");
+    }
+
+    // Sizes are given in layout units; the image is decoded for the densest screen so it stays sharp on HiDPI.
+    private static int toPixels(double size) {
+        return size > 0 ? (int) Math.ceil(size * getOutputScale()) : 0;
+    }
+
+    private static double getOutputScale() {
+        double scale = 1;
         try {
-            BufferedImage bufferedImage = readWebP(url);
-            if (bufferedImage == null)
+            for (Screen screen : Screen.getScreens()) {
+                scale = Math.max(scale, Math.max(screen.getOutputScaleX(), screen.getOutputScaleY()));
+            }
+        } catch (RuntimeException exception) {
+            // The toolkit is not running, so there is no screen to scale for.
+        }
+
+        return scale;
+    }
+
+    private static boolean isHttpURL(String url) {
+        String normalizedURL = url.toLowerCase(Locale.ROOT);
+        return normalizedURL.startsWith("https://") || normalizedURL.startsWith("http://");
+    }
+
+    public static CompletableFuture<Image> getImageAsync(String url) {
+        return getImageAsync(url, 0, 0);
+    }
+
+    public static CompletableFuture<Image> getImageAsync(String url, double width, double height) {
+        return getImageAsync(url, width, height, false);
+    }
+
+    // Filling crops whatever overflows the box instead of leaving it partly empty, for covers and tiles.
+    public static CompletableFuture<Image> getImageAsync(String url, double width, double height, boolean fill) {
+        if (url == null || url.isBlank())
+            return CompletableFuture.completedFuture(getPlaceholderImage());
+
+        int requestedWidth = toPixels(width);
+        int requestedHeight = toPixels(height);
+        String key = cacheKey(url, requestedWidth, requestedHeight, fill);
+        Image cached = CACHE.get(key);
+        if (cached != null)
+            return CompletableFuture.completedFuture(cached);
+
+        CompletableFuture<Image> created = new CompletableFuture<>();
+        CompletableFuture<Image> existing = IN_FLIGHT_LOADS.putIfAbsent(key, created);
+        if (existing != null)
+            return existing;
+
+        // Disk checks, network fetches and decoding all stay on the loader pool so the FX thread never waits on them.
+        CompletableFuture.supplyAsync(
+                        () -> getImage(url, requestedWidth, requestedHeight, fill, true, true, false),
+                        LOAD_EXECUTOR
+                )
+                .whenComplete((image, throwable) -> {
+                    IN_FLIGHT_LOADS.remove(key, created);
+                    if (throwable != null) {
+                        GameDashboardApp.LOGGER.warn("Failed to load image asynchronously: {}", url, throwable);
+                        created.complete(getPlaceholderImage());
+                    } else {
+                        created.complete(image);
+                    }
+                });
+        return created;
+    }
+
+    // The transformed image is kept under its own key, so a view that is bound again reuses it instead of redoing it.
+    public static CompletableFuture<Image> getImageAsync(
+            String url,
+            double width,
+            double height,
+            boolean fill,
+            String variant,
+            UnaryOperator<Image> transform
+    ) {
+        if (url == null || url.isBlank())
+            return getImageAsync(url, width, height, fill).thenApplyAsync(transform, LOAD_EXECUTOR);
+
+        String key = cacheKey(url, toPixels(width), toPixels(height), fill) + "#" + variant;
+        Image cached = CACHE.get(key);
+        if (cached != null)
+            return CompletableFuture.completedFuture(cached);
+
+        CompletableFuture<Image> created = new CompletableFuture<>();
+        CompletableFuture<Image> existing = IN_FLIGHT_LOADS.putIfAbsent(key, created);
+        if (existing != null)
+            return existing;
+
+        getImageAsync(url, width, height, fill)
+                .thenApplyAsync(image -> {
+                    Image transformed = transform.apply(image);
+                    // A failed load comes back as the placeholder, which must not be remembered for this URL.
+                    if (!isPlaceholder(image))
+                        CACHE.put(key, transformed);
+                    return transformed;
+                }, LOAD_EXECUTOR)
+                .whenComplete((image, throwable) -> {
+                    IN_FLIGHT_LOADS.remove(key, created);
+                    if (throwable != null) {
+                        created.completeExceptionally(throwable);
+                    } else {
+                        created.complete(image);
+                    }
+                });
+        return created;
+    }
+
+    public static void loadInto(ImageView view, String url) {
+        loadInto(view, url, 0, 0);
+    }
+
+    public static void loadInto(ImageView view, String url, double width, double height) {
+        loadInto(view, url, width, height, false);
+    }
+
+    public static void loadInto(ImageView view, String url, double width, double height, boolean fill) {
+        Objects.requireNonNull(view, "view");
+        String key = url == null ? "" : cacheKey(url, toPixels(width), toPixels(height), fill);
+        view.getProperties().put(REQUESTED_URL_KEY, key);
+
+        CompletableFuture<Image> future = getImageAsync(url, width, height, fill);
+        Image ready = future.getNow(null);
+        if (ready != null) {
+            view.setImage(ready);
+            return;
+        }
+
+        view.setImage(getPlaceholderImage());
+        future.thenAccept(image -> Utils.runOnFxThread(() -> {
+            // The view may have been pointed at a different URL while this one was loading.
+            if (Objects.equals(view.getProperties().get(REQUESTED_URL_KEY), key))
+                view.setImage(image);
+        }));
+    }
+
+    public static Image getPlaceholderImage() {
+        Image placeholder = placeholderImage;
+        if (placeholder == null) {
+            placeholder = getPlaceholderImage(false);
+            placeholderImage = placeholder;
+        }
+
+        return placeholder;
+    }
+
+    public static CacheStats getCacheStats() {
+        return CACHE.stats();
+    }
+
+    private static Image loadImage(String url, int width, int height, boolean fill, boolean background) {
+        Image image = null;
+        if (!fill) {
+            try {
+                image = new Image(url, width, height, true, true, background);
+                if (isUsable(image))
+                    return image;
+            } catch (RuntimeException exception) {
+                if (!isWebPURL(url))
+                    throw exception;
+            }
+
+            if (!isWebPURL(url))
                 return image;
+        }
 
-            return SwingFXUtils.toFXImage(bufferedImage, null);
+        try {
+            BufferedImage bufferedImage = readImage(url);
+            if (bufferedImage != null)
+                return SwingFXUtils.toFXImage(scale(bufferedImage, width, height, fill), null);
         } catch (IOException | RuntimeException exception) {
-            return image;
+            GameDashboardApp.LOGGER.debug("ImageIO could not read {}", url, exception);
         }
+
+        // Formats ImageIO cannot read are still shown, fitted rather than cropped.
+        return fill ? loadImage(url, width, height, false, background) : image;
     }
 
     private static boolean isWebPURL(String url) {
@@ -117,7 +467,7 @@ public class ImageCache {
         return normalizedURL.endsWith(".webp");
     }
 
-    private static BufferedImage readWebP(String url) throws IOException {
+    private static BufferedImage readImage(String url) throws IOException {
         if (url.startsWith("file:")) {
             return ImageIO.read(Path.of(URI.create(url)).toFile());
         }
@@ -129,10 +479,26 @@ public class ImageCache {
         return image != null && !image.isError() && image.getWidth() > 0 && image.getHeight() > 0;
     }
 
+    private static boolean isPlaceholder(Image image) {
+        return image == placeholderImage || (image.getUrl() != null && image.getUrl().equals(PLACEHOLDER_IMAGE_URL));
+    }
+
     private static Image getPlaceholderImage(boolean background) {
         if (PLACEHOLDER_IMAGE_URL == null)
             return new WritableImage(1, 1);
 
         return new Image(PLACEHOLDER_IMAGE_URL, background);
     }
+
+    public record CacheStats(
+            long hits,
+            long softHits,
+            long misses,
+            long evictions,
+            int entryCount,
+            int softEntryCount,
+            long currentBytes,
+            long maxBytes
+    ) {
+    }
 }
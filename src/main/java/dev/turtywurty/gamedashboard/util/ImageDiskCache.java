@@ -0,0 +1,314 @@
+package dev.turtywurty.gamedashboard.util;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import dev.turtywurty.gamedashboard.GameDashboardApp;
+import dev.turtywurty.gamedashboard.data.store.JsonFileStore;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+final class ImageDiskCache {
+    private static final String INDEX_FILE_NAME = "index.json";
+    private static final String METADATA_SUFFIX = ".meta.json";
+    private static final long INDEX_SAVE_DELAY_MILLIS = 5_000;
+    private static final double EVICTION_TARGET_RATIO = 0.9;
+    private static final Gson GSON = new GsonBuilder()
+            .disableHtmlEscaping()
+            .create();
+
+    private final Path directory;
+    private final Path indexPath;
+    private final long maxBytes;
+    private final Map<String, IndexEntry> index = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final AtomicBoolean indexLoaded = new AtomicBoolean();
+    private final AtomicBoolean saveScheduled = new AtomicBoolean();
+    private final AtomicBoolean evictionRunning = new AtomicBoolean();
+    private final Executor delayedSaveExecutor =
+            CompletableFuture.delayedExecutor(INDEX_SAVE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+
+    ImageDiskCache(Path directory, long maxBytes) {
+        if (maxBytes <= 0)
+            throw new IllegalArgumentException("maxBytes must be positive");
+
+        this.directory = directory;
+        this.indexPath = directory.resolve(INDEX_FILE_NAME);
+        this.maxBytes = maxBytes;
+    }
+
+    Optional<Entry> read(String url) {
+        ensureIndexLoaded();
+
+        String hash = HashedPaths.sha256(url);
+        Path path = dataPath(hash);
+        if (!Files.isRegularFile(path)) {
+            forget(hash);
+            return Optional.empty();
+        }
+
+        Optional<Metadata> metadata = readMetadata(hash, url);
+        if (metadata.isEmpty())
+            return Optional.empty();
+
+        touch(hash, path);
+        return Optional.of(new Entry(path, metadata.get()));
+    }
+
+    Entry write(String url, InputStream body, String contentType, String etag) throws IOException {
+        ensureIndexLoaded();
+
+        String hash = HashedPaths.sha256(url);
+        Path path = dataPath(hash);
+        Files.createDirectories(path.getParent());
+
+        Path temporaryFile = Files.createTempFile(path.getParent(), hash, ".tmp");
+        try {
+            Files.copy(body, temporaryFile, StandardCopyOption.REPLACE_EXISTING);
+            if (Files.size(temporaryFile) == 0)
+                throw new IOException("Empty image response for " + url);
+
+            try {
+                Files.move(temporaryFile, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(temporaryFile, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+
+        var metadata = new Metadata(url, contentType, etag, System.currentTimeMillis());
+        try {
+            JsonFileStore.writeAtomically(metadataPath(hash), GSON.toJson(metadata));
+        } catch (IOException exception) {
+            GameDashboardApp.LOGGER.debug("Failed to write image cache metadata for {}", url, exception);
+        }
+
+        touch(hash, path);
+        if (this.totalBytes.get() > this.maxBytes)
+            scheduleEviction();
+
+        return new Entry(path, metadata);
+    }
+
+    void delete(String url) {
+        ensureIndexLoaded();
+        deleteHash(HashedPaths.sha256(url));
+    }
+
+    private void touch(String hash, Path path) {
+        long size = sizeOf(path) + sizeOf(metadataPath(hash));
+        IndexEntry previous = this.index.put(hash, new IndexEntry(size, System.currentTimeMillis()));
+        this.totalBytes.addAndGet(size - (previous == null ? 0 : previous.size()));
+        scheduleSave();
+    }
+
+    private void forget(String hash) {
+        IndexEntry removed = this.index.remove(hash);
+        if (removed != null) {
+            this.totalBytes.addAndGet(-removed.size());
+            scheduleSave();
+        }
+    }
+
+    private void deleteHash(String hash) {
+        try {
+            Files.deleteIfExists(dataPath(hash));
+            Files.deleteIfExists(metadataPath(hash));
+        } catch (IOException exception) {
+            GameDashboardApp.LOGGER.debug("Failed to delete cached image {}", hash, exception);
+        }
+
+        forget(hash);
+    }
+
+    private void scheduleEviction() {
+        if (this.evictionRunning.compareAndSet(false, true))
+            Thread.ofVirtual().name("image-cache-eviction").start(this::evict);
+    }
+
+    private void evict() {
+        try {
+            long target = (long) (this.maxBytes * EVICTION_TARGET_RATIO);
+            List<Map.Entry<String, IndexEntry>> entries = new ArrayList<>(this.index.entrySet());
+            entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccessMillis()));
+
+            int evicted = 0;
+            for (Map.Entry<String, IndexEntry> entry : entries) {
+                if (this.totalBytes.get() <= target)
+                    break;
+
+                deleteHash(entry.getKey());
+                evicted++;
+            }
+
+            if (evicted > 0)
+                GameDashboardApp.LOGGER.debug("Evicted {} cached images, cache is now {} bytes", evicted, this.totalBytes.get());
+        } catch (RuntimeException exception) {
+            GameDashboardApp.LOGGER.warn("Failed to evict cached images", exception);
+        } finally {
+            this.evictionRunning.set(false);
+        }
+    }
+
+    private void ensureIndexLoaded() {
+        if (this.indexLoaded.get())
+            return;
+
+        synchronized (this.indexLoaded) {
+            if (this.indexLoaded.get())
+                return;
+
+            if (!loadIndex())
+                rebuildIndex();
+
+            this.indexLoaded.set(true);
+        }
+
+        if (this.totalBytes.get() > this.maxBytes)
+            scheduleEviction();
+    }
+
+    private boolean loadIndex() {
+        if (!Files.isRegularFile(this.indexPath))
+            return false;
+
+        try {
+            Map<String, IndexEntry> entries = GSON.fromJson(
+                    Files.readString(this.indexPath),
+                    new TypeToken<Map<String, IndexEntry>>() {
+                    }.getType()
+            );
+            if (entries == null)
+                return false;
+
+            entries.forEach((hash, entry) -> {
+                if (entry != null && HashedPaths.isHash(hash)) {
+                    this.index.put(hash, entry);
+                    this.totalBytes.addAndGet(entry.size());
+                }
+            });
+            return true;
+        } catch (IOException | JsonParseException exception) {
+            GameDashboardApp.LOGGER.warn("Failed to read image cache index, rebuilding it", exception);
+            this.index.clear();
+            this.totalBytes.set(0);
+            return false;
+        }
+    }
+
+    // Runs when there is no usable index: re-registers sharded files and removes the old flat Base64-named layout.
+    private void rebuildIndex() {
+        if (!Files.isDirectory(this.directory))
+            return;
+
+        try (Stream<Path> files = Files.walk(this.directory, 3)) {
+            files.filter(Files::isRegularFile).forEach(path -> {
+                String fileName = path.getFileName().toString();
+                if (path.getParent().equals(this.directory)) {
+                    if (!fileName.equals(INDEX_FILE_NAME))
+                        deleteQuietly(path);
+                    return;
+                }
+
+                if (!HashedPaths.isHash(fileName))
+                    return;
+
+                long lastAccess;
+                try {
+                    lastAccess = Files.getLastModifiedTime(path).toMillis();
+                } catch (IOException exception) {
+                    lastAccess = 0;
+                }
+
+                long size = sizeOf(path) + sizeOf(metadataPath(fileName));
+                this.index.put(fileName, new IndexEntry(size, lastAccess));
+                this.totalBytes.addAndGet(size);
+            });
+        } catch (IOException exception) {
+            GameDashboardApp.LOGGER.warn("Failed to rebuild image cache index", exception);
+        }
+
+        scheduleSave();
+    }
+
+    private void scheduleSave() {
+        if (this.saveScheduled.compareAndSet(false, true))
+            this.delayedSaveExecutor.execute(this::saveIndex);
+    }
+
+    private void saveIndex() {
+        this.saveScheduled.set(false);
+        try {
+            JsonFileStore.writeAtomically(this.indexPath, GSON.toJson(Map.copyOf(this.index)));
+        } catch (IOException exception) {
+            GameDashboardApp.LOGGER.warn("Failed to save image cache index", exception);
+        }
+    }
+
+    private Optional<Metadata> readMetadata(String hash, String url) {
+        Path path = metadataPath(hash);
+        if (!Files.isRegularFile(path))
+            return Optional.empty();
+
+        try {
+            Metadata metadata = GSON.fromJson(Files.readString(path), Metadata.class);
+            // The stored URL guards against a hash collision handing back another image's metadata.
+            return metadata != null && url.equals(metadata.url()) ? Optional.of(metadata) : Optional.empty();
+        } catch (IOException | JsonParseException exception) {
+            GameDashboardApp.LOGGER.debug("Failed to read image cache metadata for {}", url, exception);
+            return Optional.empty();
+        }
+    }
+
+    private Path dataPath(String hash) {
+        return HashedPaths.resolve(this.directory, hash, 2, "");
+    }
+
+    private Path metadataPath(String hash) {
+        return dataPath(hash).resolveSibling(hash + METADATA_SUFFIX);
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.isRegularFile(path) ? Files.size(path) : 0;
+        } catch (IOException exception) {
+            return 0;
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException exception) {
+            GameDashboardApp.LOGGER.debug("Failed to delete {}", path, exception);
+        }
+    }
+
+    record Metadata(String url, String contentType, String etag, long storedAtMillis) {
+    }
+
+    record Entry(Path path, Metadata metadata) {
+    }
+
+    private record IndexEntry(long size, long lastAccessMillis) {
+    }
+}
@@ -1,6 +1,20 @@
 package dev.turtywurty.gamedashboard.util;
 
 public interface ProgressMonitor {
+    ProgressMonitor NONE = new ProgressMonitor() {
+        @Override
+        public void start(String taskName, int totalWork) {
+        }
+
+        @Override
+        public void worked(int work) {
+        }
+
+        @Override
+        public void done() {
+        }
+    };
+
     void start(String taskName, int totalWork);
 
     void worked(int work);
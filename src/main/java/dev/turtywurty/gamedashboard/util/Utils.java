@@ -13,6 +13,8 @@ import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 public class Utils {
     public static final String PLACEHOLDER_COVER_URL = "https://fakeimg.pl/35x35";
@@ -89,6 +91,22 @@ public class Utils {
         }
     }
 
+    // Blocks the calling thread until the FX thread has produced the result, so FX-owned state can be read safely.
+    public static <T> T callOnFxThread(Supplier<T> action) {
+        if (Platform.isFxApplicationThread())
+            return action.get();
+
+        var result = new CompletableFuture<T>();
+        Platform.runLater(() -> {
+            try {
+                result.complete(action.get());
+            } catch (RuntimeException exception) {
+                result.completeExceptionally(exception);
+            }
+        });
+        return result.join();
+    }
+
     // https://www.geeksforgeeks.org/java-program-to-implement-levenshtein-distance-computing-algorithm/
     public static int levenshteinDistance(String source, String target) {
         // A 2D array to store previously calculated values
@@ -0,0 +1,247 @@
+package dev.turtywurty.gamedashboard.util;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Streams text KeyValues (VDF) to a visitor in a single pass, without building a tree.
+public final class VDFReader {
+    private static final char L_BRACE = '{';
+    private static final char R_BRACE = '}';
+    private static final char SLASH = '/';
+    private static final char BACK_SLASH = '\\';
+    private static final char QUOTE = '"';
+    private static final char NEWLINE = '\n';
+
+    private final CharSequence input;
+    private final Token key;
+    private final Token value;
+    private int position;
+
+    private VDFReader(CharSequence input) {
+        this.input = input;
+        this.key = new Token(input);
+        this.value = new Token(input);
+    }
+
+    public static void read(Path path, Visitor visitor) throws IOException {
+        // Decoded into a CharBuffer rather than a String; not mapped, because Windows keeps a mapped file locked
+        // until the buffer is collected and Steam replaces its manifests while it runs.
+        read(StandardCharsets.UTF_8.decode(ByteBuffer.wrap(Files.readAllBytes(path))), visitor);
+    }
+
+    public static void read(CharSequence input, Visitor visitor) {
+        new VDFReader(input).readObject(visitor, false);
+    }
+
+    // KeyValues keys are case-insensitive.
+    public static boolean equalsIgnoreCase(CharSequence token, String expected) {
+        int length = token.length();
+        if (length != expected.length())
+            return false;
+
+        for (int index = 0; index < length; index++) {
+            char first = token.charAt(index);
+            char second = expected.charAt(index);
+            if (first != second && Character.toLowerCase(first) != Character.toLowerCase(second))
+                return false;
+        }
+
+        return true;
+    }
+
+    // A null visitor skips the object, still tokenizing it so nested braces inside strings are handled.
+    private void readObject(@Nullable Visitor visitor, boolean nested) {
+        while (true) {
+            skipWhitespaceAndComments();
+            if (!hasNext()) {
+                if (nested)
+                    throw error("Unterminated object");
+
+                return;
+            }
+
+            char firstChar = next();
+            if (firstChar == R_BRACE) {
+                if (!nested)
+                    throw error("Unexpected character '" + firstChar + "'");
+
+                return;
+            }
+
+            if (firstChar == '\0')
+                continue;
+
+            if (firstChar != QUOTE)
+                throw error("Unexpected character '" + firstChar + "'");
+
+            readString(this.key);
+            skipWhitespaceAndComments();
+            if (!hasNext())
+                throw error("Missing value for key \"" + this.key + "\"");
+
+            char valueStart = next();
+            if (valueStart == QUOTE) {
+                readString(this.value);
+                if (visitor != null) {
+                    visitor.value(this.key, this.value);
+                }
+            } else if (valueStart == L_BRACE) {
+                boolean descend = visitor != null && visitor.startObject(this.key);
+                readObject(descend ? visitor : null, true);
+                if (descend) {
+                    visitor.endObject();
+                }
+            } else {
+                throw error("Unexpected character '" + valueStart + "'");
+            }
+        }
+    }
+
+    private void readString(Token token) {
+        int start = this.position;
+        while (hasNext()) {
+            char character = next();
+            if (character == QUOTE) {
+                token.slice(start, this.position - 1);
+                return;
+            }
+
+            if (character == BACK_SLASH) {
+                readEscapedString(token.startEscaped().append(this.input, start, this.position - 1));
+                return;
+            }
+        }
+
+        throw error("Unterminated string");
+    }
+
+    // Only strings containing escapes are copied, into the token's own buffer; the rest are views of the input.
+    private void readEscapedString(StringBuilder value) {
+        appendEscape(value);
+        while (hasNext()) {
+            char character = next();
+            if (character == QUOTE)
+                return;
+
+            if (character == BACK_SLASH) {
+                appendEscape(value);
+            } else {
+                value.append(character);
+            }
+        }
+
+        throw error("Unterminated string");
+    }
+
+    private void appendEscape(StringBuilder value) {
+        if (!hasNext())
+            throw error("Unterminated escape sequence");
+
+        char escaped = next();
+        switch (escaped) {
+            case 'n' -> value.append('\n');
+            case 't' -> value.append('\t');
+            case BACK_SLASH, QUOTE -> value.append(escaped);
+            default -> throw error("Unexpected escape sequence \"\\" + escaped + "\"");
+        }
+    }
+
+    private void skipWhitespaceAndComments() {
+        while (hasNext()) {
+            char character = this.input.charAt(this.position);
+            if (Character.isWhitespace(character)) {
+                this.position++;
+                continue;
+            }
+
+            if (character == SLASH
+                    && this.position + 1 < this.input.length()
+                    && this.input.charAt(this.position + 1) == SLASH) {
+                this.position += 2;
+                while (hasNext() && this.input.charAt(this.position) != NEWLINE) {
+                    this.position++;
+                }
+                continue;
+            }
+
+            return;
+        }
+    }
+
+    private boolean hasNext() {
+        return this.position < this.input.length();
+    }
+
+    private char next() {
+        return this.input.charAt(this.position++);
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at character " + this.position);
+    }
+
+    // Keys and values are only valid during the call that receives them; call toString() to keep one.
+    public interface Visitor {
+        // Returning false skips the object without calling back for anything inside it, or calling endObject.
+        default boolean startObject(CharSequence key) {
+            return true;
+        }
+
+        default void endObject() {
+        }
+
+        default void value(CharSequence key, CharSequence value) {
+        }
+    }
+
+    private static final class Token implements CharSequence {
+        private final CharSequence input;
+        private final StringBuilder escaped = new StringBuilder();
+        private int start;
+        private int end;
+        private boolean isEscaped;
+
+        private Token(CharSequence input) {
+            this.input = input;
+        }
+
+        private void slice(int start, int end) {
+            this.start = start;
+            this.end = end;
+            this.isEscaped = false;
+        }
+
+        private StringBuilder startEscaped() {
+            this.escaped.setLength(0);
+            this.isEscaped = true;
+            return this.escaped;
+        }
+
+        @Override
+        public int length() {
+            return this.isEscaped ? this.escaped.length() : this.end - this.start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return this.isEscaped ? this.escaped.charAt(index) : this.input.charAt(this.start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return this.isEscaped
+                    ? this.escaped.subSequence(start, end)
+                    : this.input.subSequence(this.start + start, this.start + end);
+        }
+
+        @Override
+        public String toString() {
+            return this.isEscaped ? this.escaped.toString() : this.input.subSequence(this.start, this.end).toString();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package dev.turtywurty.gamedashboard.view.general;
+
+import dev.turtywurty.gamedashboard.data.game.Game;
+import dev.turtywurty.gamedashboard.util.Utils;
+import eu.hansolo.tilesfx.Tile;
+import eu.hansolo.tilesfx.TileBuilder;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.TextAlignment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Only the rows in view get cells, and each cell recycles its GridGameEntry nodes as it is scrolled to other rows.
+public class GameGridView extends StackPane {
+    private static final double GAP = 15;
+    private static final double PADDING = 15;
+    private static final double SCROLL_BAR_ALLOWANCE = 16;
+
+    private final ObservableList<Game> games;
+    private final ObservableList<String> loadingGames;
+    private final ListView<Integer> rows = new ListView<>();
+    private final IntegerProperty columns = new SimpleIntegerProperty(1);
+    private final IntegerProperty contentVersion = new SimpleIntegerProperty();
+
+    public GameGridView(ObservableList<Game> games, ObservableList<String> loadingGames) {
+        this.games = games;
+        this.loadingGames = loadingGames;
+
+        getStyleClass().add("game-grid");
+        setBackground(Utils.createBackground("#3f3f4a"));
+
+        this.rows.setStyle("-fx-background-color: transparent; -fx-background-insets: 0; -fx-padding: 0;");
+        this.rows.setFocusTraversable(false);
+        this.rows.setFixedCellSize(GridGameEntry.TILE_HEIGHT + GAP);
+        this.rows.setCellFactory(ignored -> new RowCell());
+        getChildren().add(this.rows);
+
+        widthProperty().addListener((observable, oldValue, newValue) -> updateColumns(newValue.doubleValue()));
+        this.games.addListener((ListChangeListener<? super Game>) change -> updateRows());
+        this.loadingGames.addListener((ListChangeListener<? super String>) change -> updateRows());
+        updateRows();
+    }
+
+    private int itemCount() {
+        return this.games.size() + this.loadingGames.size();
+    }
+
+    private void updateColumns(double width) {
+        double available = width - PADDING * 2 - SCROLL_BAR_ALLOWANCE;
+        int columns = Math.max(1, (int) ((available + GAP) / (GridGameEntry.TILE_WIDTH + GAP)));
+        if (columns == this.columns.get())
+            return;
+
+        this.columns.set(columns);
+        updateRows();
+    }
+
+    private void updateRows() {
+        int columns = this.columns.get();
+        int rowCount = (itemCount() + columns - 1) / columns;
+
+        ObservableList<Integer> items = this.rows.getItems();
+        if (items.size() > rowCount) {
+            items.remove(rowCount, items.size());
+        } else if (items.size() < rowCount) {
+            List<Integer> added = new ArrayList<>(rowCount - items.size());
+            for (int row = items.size(); row < rowCount; row++) {
+                added.add(row);
+            }
+
+            items.addAll(added);
+        }
+
+        // Row indices rarely change, so visible cells are told to re-render rather than relying on updateItem.
+        this.contentVersion.set(this.contentVersion.get() + 1);
+    }
+
+    private static Tile createLoadingTile() {
+        Tile tile = TileBuilder.create()
+                .skinType(Tile.SkinType.CUSTOM)
+                .prefSize(GridGameEntry.TILE_WIDTH, GridGameEntry.TILE_HEIGHT)
+                .textAlignment(TextAlignment.CENTER)
+                .textSize(Tile.TextSize.BIGGER)
+                .roundedCorners(true)
+                .backgroundColor(Color.web("#3f3f4a"))
+                .build();
+        tile.setGraphic(new ProgressIndicator());
+        return tile;
+    }
+
+    private final class RowCell extends ListCell<Integer> {
+        private final HBox row = new HBox(GAP);
+        private final List<GridGameEntry> entries = new ArrayList<>();
+        private final List<Tile> loadingTiles = new ArrayList<>();
+        private final InvalidationListener contentListener = ignored -> {
+            Integer item = getItem();
+            if (!isEmpty() && item != null)
+                render(item);
+        };
+
+        private RowCell() {
+            setStyle("-fx-background-color: transparent; -fx-padding: 0;");
+            setText(null);
+
+            this.row.setAlignment(Pos.TOP_CENTER);
+            this.row.setPadding(new Insets(GAP, PADDING, 0, PADDING));
+
+            GameGridView.this.contentVersion.addListener(new WeakInvalidationListener(this.contentListener));
+        }
+
+        @Override
+        protected void updateItem(Integer item, boolean empty) {
+            super.updateItem(item, empty);
+            if (empty || item == null) {
+                this.row.getChildren().clear();
+                setGraphic(null);
+                return;
+            }
+
+            render(item);
+            setGraphic(this.row);
+        }
+
+        private void render(int rowIndex) {
+            int columns = GameGridView.this.columns.get();
+            int gameCount = GameGridView.this.games.size();
+            int start = rowIndex * columns;
+            int end = Math.min(start + columns, itemCount());
+
+            List<Node> children = new ArrayList<>(Math.max(0, end - start));
+            int entryIndex = 0;
+            int loadingIndex = 0;
+            for (int index = start; index < end; index++) {
+                if (index < gameCount) {
+                    children.add(entryAt(entryIndex++, GameGridView.this.games.get(index)).getNode());
+                } else {
+                    children.add(loadingTileAt(loadingIndex++, GameGridView.this.loadingGames.get(index - gameCount)));
+                }
+            }
+
+            this.row.getChildren().setAll(children);
+        }
+
+        private GridGameEntry entryAt(int slot, Game game) {
+            if (slot < this.entries.size()) {
+                GridGameEntry entry = this.entries.get(slot);
+                entry.setGame(game);
+                return entry;
+            }
+
+            var entry = new GridGameEntry(game);
+            entry.bindBackgroundPane(GameGridView.this);
+            this.entries.add(entry);
+            return entry;
+        }
+
+        private Tile loadingTileAt(int slot, String name) {
+            Tile tile;
+            if (slot < this.loadingTiles.size()) {
+                tile = this.loadingTiles.get(slot);
+            } else {
+                tile = createLoadingTile();
+                this.loadingTiles.add(tile);
+            }
+
+            tile.setText(name);
+            tile.setUserData(name);
+            return tile;
+        }
+    }
+}
@@ -29,7 +29,8 @@ public class GameSidebarEntry extends HBox {
         setPadding(Utils.createInsets(5, 10, 5, 10));
         setBackground(Utils.createBackground("#2f2f3a"));
 
-        this.icon = new ImageView(ImageCache.getImage(game.getThumbCoverImageURL()));
+        this.icon = new ImageView();
+        ImageCache.loadInto(this.icon, game.getThumbCoverImageURL(), ICON_SIZE, ICON_SIZE, true);
         this.icon.setFitHeight(ICON_SIZE);
         this.icon.setFitWidth(ICON_SIZE);
         this.icon.setPreserveRatio(true);
@@ -41,7 +42,8 @@ public class GameSidebarEntry extends HBox {
 
         String logoUrl = game.getCoverLogoImageURL();
         if (logoUrl != null && !logoUrl.isBlank()) {
-            var logo = new ImageView(ImageCache.getImage(logoUrl));
+            var logo = new ImageView();
+            ImageCache.loadInto(logo, logoUrl, ICON_SIZE * 0.82, ICON_SIZE * 0.35);
             logo.setFitWidth(ICON_SIZE * 0.82);
             logo.setFitHeight(ICON_SIZE * 0.35);
             logo.setPreserveRatio(true);
@@ -72,6 +74,6 @@ public class GameSidebarEntry extends HBox {
     }
 
     public void setIcon(String url) {
-        this.icon.setImage(ImageCache.getImage(url));
+        ImageCache.loadInto(this.icon, url, ICON_SIZE, ICON_SIZE, true);
     }
 }
@@ -40,7 +40,9 @@ import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -49,45 +51,47 @@ import java.util.stream.Collectors;
 @Getter
 public class GridGameEntry {
     private static ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
-    private static final double TILE_WIDTH = 150;
-    private static final double TILE_HEIGHT = 200;
+    public static final double TILE_WIDTH = 150;
+    public static final double TILE_HEIGHT = 200;
     private static final double PLATFORM_BADGE_SIZE = 30;
     private static final double PLATFORM_ICON_SIZE = 24;
     private static final double PLATFORM_ICON_SOURCE_SIZE = 96;
+    private static final double TRAY_ICON_SIZE = 100;
+    private static final Map<String, Image> PLATFORM_ICONS = new ConcurrentHashMap<>();
+    private static volatile Image placeholderBackground;
 
     private final StackPane node;
     private final Tile tile;
-    private final Game game;
+    private Game game;
+    private Node coverLogo;
+    private Node platformBadge;
 
     private final ObjectProperty<Runnable> onEnter = new SimpleObjectProperty<>();
     private final ObjectProperty<Runnable> onExit = new SimpleObjectProperty<>();
 
     public GridGameEntry(Game game) {
-        this.game = game;
-
         this.tile = TileBuilder.create()
                 .skinType(Tile.SkinType.CUSTOM)
                 .prefSize(TILE_WIDTH, TILE_HEIGHT)
                 .textAlignment(TextAlignment.CENTER)
-                .text(game.getTitle())
                 .textSize(Tile.TextSize.BIGGER)
                 .roundedCorners(true)
-                .backgroundImage(ImageCache.getImage(game.getCoverImageURL()))
+                .backgroundImage(getPlaceholderBackground())
                 .backgroundImageOpacity(1)
                 .build();
-        tile.setUserData(game);
 
-        this.tile.setBackgroundImage(applyBottomGradient(this.tile.getBackgroundImage()));
         this.node = createNode();
+        setGame(game);
 
         this.tile.setOnMouseClicked(event -> {
-            if (game.getLaunchTarget() == null)
+            Game launchedGame = this.game;
+            if (launchedGame.getLaunchTarget() == null)
                 return;
 
             try {
                 List<ProcessHandle> processes = ProcessHandle.allProcesses().toList();
 
-                game.launch();
+                launchedGame.launch();
 
                 // iconify
                 Stage stage = ((Stage) getTile().getScene().getWindow());
@@ -96,7 +100,7 @@ public class GridGameEntry {
 
                 if (SystemTray.isSupported()) {
                     SystemTray tray = SystemTray.getSystemTray();
-                    TrayIcon icon = createTrayIcon(game, stage, tray);
+                    TrayIcon icon = createTrayIcon(launchedGame, stage, tray);
 
                     // check if game is still running
                     executorService.scheduleAtFixedRate(() -> {
@@ -122,7 +126,7 @@ public class GridGameEntry {
                                 .map(process -> process.info().command().orElse(""))
                                 .collect(Collectors.joining(", ")));
 
-                        game.findPossibleProcess(newProcesses).ifPresent(process -> {
+                        launchedGame.findPossibleProcess(newProcesses).ifPresent(process -> {
                             Utils.runOnFxThread(() -> {
                                 stage.show();
                                 stage.setIconified(false);
@@ -193,22 +197,92 @@ public class GridGameEntry {
         container.setPrefSize(TILE_WIDTH, TILE_HEIGHT);
         container.setMinSize(TILE_WIDTH, TILE_HEIGHT);
         container.setMaxSize(TILE_WIDTH, TILE_HEIGHT);
-        container.setUserData(this.game);
+        return container;
+    }
+
+    public void setGame(Game game) {
+        Objects.requireNonNull(game, "game");
+        if (this.game == game)
+            return;
 
-        Node coverLogo = createCoverLogo();
-        if (coverLogo != null) {
-            container.getChildren().add(coverLogo);
-            StackPane.setAlignment(coverLogo, Pos.CENTER);
+        this.game = game;
+        this.tile.setText(game.getTitle());
+        this.tile.setUserData(game);
+        this.node.setUserData(game);
+        this.tile.setBackgroundImage(getPlaceholderBackground());
+
+        if (this.coverLogo != null)
+            this.node.getChildren().remove(this.coverLogo);
+        if (this.platformBadge != null)
+            this.node.getChildren().remove(this.platformBadge);
+
+        this.coverLogo = createCoverLogo();
+        if (this.coverLogo != null) {
+            this.node.getChildren().add(this.coverLogo);
+            StackPane.setAlignment(this.coverLogo, Pos.CENTER);
         }
 
-        Node platformBadge = createPlatformBadge();
-        if (platformBadge != null) {
-            container.getChildren().add(platformBadge);
-            StackPane.setAlignment(platformBadge, Pos.TOP_RIGHT);
-            StackPane.setMargin(platformBadge, new Insets(8, 8, 0, 0));
+        this.platformBadge = createPlatformBadge();
+        if (this.platformBadge != null) {
+            this.node.getChildren().add(this.platformBadge);
+            StackPane.setAlignment(this.platformBadge, Pos.TOP_RIGHT);
+            StackPane.setMargin(this.platformBadge, new Insets(8, 8, 0, 0));
         }
 
-        return container;
+        loadBackgroundImage();
+    }
+
+    public void bindBackgroundPane(Pane paneParent) {
+        if (paneParent.getBackground() == null || paneParent.getBackground().getFills().isEmpty())
+            return;
+
+        Background background = paneParent.getBackground();
+
+        Runnable enterAction = () -> {
+            Rectangle shape = new Rectangle();
+            shape.setFill(paneParent.getBackground().getFills().getFirst().getFill());
+
+            var transition = new FillTransition();
+            transition.setShape(shape);
+            transition.setDuration(Duration.millis(500));
+            transition.setDelay(Duration.millis(10));
+            transition.setFromValue((javafx.scene.paint.Color) paneParent.getBackground().getFills().getFirst().getFill());
+            transition.setToValue(Utils.getAverageColor(this.tile.getBackgroundImage()));
+
+            transition.setInterpolator(new Interpolator() {
+                @Override
+                protected double curve(double t) {
+                    paneParent.setBackground(Utils.createBackground((javafx.scene.paint.Color) shape.getFill()));
+                    return t;
+                }
+            });
+
+            transition.play();
+        };
+
+        Runnable exitAction = () -> {
+            Rectangle shape = new Rectangle();
+            shape.setFill(paneParent.getBackground().getFills().getFirst().getFill());
+
+            var transition = new FillTransition();
+            transition.setShape(shape);
+            transition.setDuration(Duration.millis(500));
+            transition.setFromValue((javafx.scene.paint.Color) paneParent.getBackground().getFills().getFirst().getFill());
+            transition.setToValue((javafx.scene.paint.Color) background.getFills().getFirst().getFill());
+
+            transition.setInterpolator(new Interpolator() {
+                @Override
+                protected double curve(double t) {
+                    paneParent.setBackground(Utils.createBackground((javafx.scene.paint.Color) shape.getFill()));
+                    return t;
+                }
+            });
+
+            transition.play();
+        };
+
+        this.onEnter.set(enterAction);
+        this.onExit.set(exitAction);
     }
 
     private Node createCoverLogo() {
@@ -217,7 +291,8 @@ public class GridGameEntry {
                 || !Objects.equals(this.game.getCoverImageURL(), this.game.getThumbCoverImageURL()))
             return null;
 
-        var logo = new ImageView(ImageCache.getImage(logoUrl));
+        var logo = new ImageView();
+        ImageCache.loadInto(logo, logoUrl, TILE_WIDTH * 0.82, TILE_HEIGHT * 0.35);
         logo.setFitWidth(TILE_WIDTH * 0.82);
         logo.setFitHeight(TILE_HEIGHT * 0.35);
         logo.setPreserveRatio(true);
@@ -243,13 +318,13 @@ public class GridGameEntry {
         if (iconPath == null)
             return null;
 
-        var icon = new ImageView(new Image(
-                getClass().getResource(iconPath).toExternalForm(),
+        var icon = new ImageView(PLATFORM_ICONS.computeIfAbsent(iconPath, path -> new Image(
+                GridGameEntry.class.getResource(path).toExternalForm(),
                 PLATFORM_ICON_SOURCE_SIZE,
                 PLATFORM_ICON_SOURCE_SIZE,
                 true,
                 true
-        ));
+        )));
         icon.setFitWidth(PLATFORM_ICON_SIZE);
         icon.setFitHeight(PLATFORM_ICON_SIZE);
         icon.setPreserveRatio(true);
@@ -272,6 +347,37 @@ public class GridGameEntry {
         return badge;
     }
 
+    private void loadBackgroundImage() {
+        Game requestedGame = this.game;
+        ImageCache.getImageAsync(
+                        requestedGame.getCoverImageURL(),
+                        TILE_WIDTH,
+                        TILE_HEIGHT,
+                        true,
+                        "bottom-gradient",
+                        GridGameEntry::applyBottomGradient
+                )
+                .thenAccept(image -> Utils.runOnFxThread(() -> {
+                    // Recycled entries may already show a different game by the time the cover arrives.
+                    if (this.game == requestedGame)
+                        this.tile.setBackgroundImage(image);
+                }))
+                .exceptionally(throwable -> {
+                    GameDashboardApp.LOGGER.warn("Failed to load cover for {}", requestedGame.getTitle(), throwable);
+                    return null;
+                });
+    }
+
+    private static Image getPlaceholderBackground() {
+        Image placeholder = placeholderBackground;
+        if (placeholder == null) {
+            placeholder = applyBottomGradient(ImageCache.getPlaceholderImage());
+            placeholderBackground = placeholder;
+        }
+
+        return placeholder;
+    }
+
     private static Image applyBottomGradient(Image sourceImage) {
         BufferedImage image = SwingFXUtils.fromFXImage(sourceImage, null);
         if (image == null)
@@ -292,9 +398,15 @@ public class GridGameEntry {
 
     private static @NotNull TrayIcon createTrayIcon(Game game, Stage stage, SystemTray tray) throws AWTException {
         TrayIcon icon = new TrayIcon(SwingFXUtils.fromFXImage(
-                ImageCache.getImage(game.getCoverImageURL()),
-                new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB)));
+                ImageCache.getPlaceholderImage(),
+                new BufferedImage((int) TRAY_ICON_SIZE, (int) TRAY_ICON_SIZE, BufferedImage.TYPE_INT_ARGB)));
         icon.setImageAutoSize(true);
+        ImageCache.getImageAsync(game.getCoverImageURL(), TRAY_ICON_SIZE, TRAY_ICON_SIZE, true)
+                .thenApply(image -> SwingFXUtils.fromFXImage(image, null))
+                .thenAccept(image -> {
+                    if (image != null)
+                        EventQueue.invokeLater(() -> icon.setImage(image));
+                });
         icon.setToolTip("Playing " + game.getTitle() + "...");
 
         var menu = createPopupMenu(stage, tray, icon);
@@ -353,56 +465,8 @@ public class GridGameEntry {
             if (newValue == null)
                 return;
 
-            if (!(newValue instanceof Pane paneParent) || paneParent.getBackground() == null || paneParent.getBackground().getFills().isEmpty())
-                return;
-
-            Background background = paneParent.getBackground();
-
-            Runnable enterAction = () -> {
-                Rectangle shape = new Rectangle();
-                shape.setFill(paneParent.getBackground().getFills().getFirst().getFill());
-
-                var transition = new FillTransition();
-                transition.setShape(shape);
-                transition.setDuration(Duration.millis(500));
-                transition.setDelay(Duration.millis(10));
-                transition.setFromValue((javafx.scene.paint.Color) paneParent.getBackground().getFills().getFirst().getFill());
-                transition.setToValue(Utils.getAverageColor(GridGameEntry.this.tile.getBackgroundImage()));
-
-                transition.setInterpolator(new Interpolator() {
-                    @Override
-                    protected double curve(double t) {
-                        paneParent.setBackground(Utils.createBackground((javafx.scene.paint.Color) shape.getFill()));
-                        return t;
-                    }
-                });
-
-                transition.play();
-            };
-
-            Runnable exitAction = () -> {
-                Rectangle shape = new Rectangle();
-                shape.setFill(paneParent.getBackground().getFills().getFirst().getFill());
-
-                var transition = new FillTransition();
-                transition.setShape(shape);
-                transition.setDuration(Duration.millis(500));
-                transition.setFromValue((javafx.scene.paint.Color) paneParent.getBackground().getFills().getFirst().getFill());
-                transition.setToValue((javafx.scene.paint.Color) background.getFills().getFirst().getFill());
-
-                transition.setInterpolator(new Interpolator() {
-                    @Override
-                    protected double curve(double t) {
-                        paneParent.setBackground(Utils.createBackground((javafx.scene.paint.Color) shape.getFill()));
-                        return t;
-                    }
-                });
-
-                transition.play();
-            };
-
-            GridGameEntry.this.onEnter.set(enterAction);
-            GridGameEntry.this.onExit.set(exitAction);
+            if (newValue instanceof Pane paneParent)
+                bindBackgroundPane(paneParent);
         }
     }
 }
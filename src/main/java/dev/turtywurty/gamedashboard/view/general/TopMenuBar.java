@@ -2,14 +2,19 @@ package dev.turtywurty.gamedashboard.view.general;
 
 import dev.turtywurty.gamedashboard.GameDashboardApp;
 import dev.turtywurty.gamedashboard.data.Database;
+import dev.turtywurty.gamedashboard.data.IGDBTitleIndex;
 import dev.turtywurty.gamedashboard.view.steam.SteamConfigurationPane;
 import javafx.scene.Scene;
 import javafx.scene.control.Menu;
 import javafx.scene.control.MenuBar;
 import javafx.scene.control.MenuItem;
+import javafx.stage.FileChooser;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 
+import java.io.File;
+import java.io.IOException;
+
 public class TopMenuBar extends MenuBar {
     private final Menu homeMenu;
     private final Menu viewMenu;
@@ -55,7 +60,26 @@ public class TopMenuBar extends MenuBar {
 //            epicGamesConfigurationPane.construct();
 //        });
 
+        var importTitleIndex = new MenuItem("Import IGDB Title Dump");
+        importTitleIndex.setOnAction(e -> {
+            var fileChooser = new FileChooser();
+            fileChooser.setTitle("Import IGDB Title Dump");
+            fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("JSON", "*.json", "*.jsonl"));
+            File dumpFile = fileChooser.showOpenDialog(getScene().getWindow());
+            if (dumpFile == null)
+                return;
+
+            Thread.ofVirtual().start(() -> {
+                try {
+                    IGDBTitleIndex.getInstance().importDump(dumpFile.toPath());
+                } catch (IOException exception) {
+                    GameDashboardApp.LOGGER.error("Failed to import IGDB title dump {}", dumpFile, exception);
+                }
+            });
+        });
+
         this.homeMenu.getItems().add(steamSetup);
+        this.homeMenu.getItems().add(importTitleIndex);
 //        this.homeMenu.getItems().add(setupEpicGames);
 
         getMenus().addAll(this.homeMenu, this.viewMenu, this.helpMenu);
@@ -5,8 +5,11 @@ import dev.turtywurty.gamedashboard.data.game.Game;
 import dev.turtywurty.gamedashboard.util.Utils;
 import dev.turtywurty.gamedashboard.view.general.GameSidebarEntry;
 import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
 import javafx.geometry.Pos;
 import javafx.geometry.VPos;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.control.Separator;
@@ -18,7 +21,9 @@ import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.text.TextAlignment;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 
 public class HomeSidebarPane extends VBox {
     private final HomeSidebarPane.Header header;
@@ -107,6 +112,8 @@ public class HomeSidebarPane extends VBox {
         private final Label title;
         private final ScrollPane scrollPane = new ScrollPane();
         private final VBox gamesVBox;
+        private final SortedList<Game> sortedGames =
+                new SortedList<>(Database.getInstance().getGames(), GAME_TITLE_COMPARATOR);
 
         public Content() {
             getStyleClass().add("sidebar-content");
@@ -130,12 +137,9 @@ public class HomeSidebarPane extends VBox {
             this.gamesVBox = new VBox();
             this.gamesVBox.setSpacing(5);
             this.gamesVBox.setBackground(Utils.createBackground("#3f3f4a"));
-            this.gamesVBox.getChildren()
-                    .setAll(Database.getInstance().getGames()
-                            .stream()
-                            .sorted(GAME_TITLE_COMPARATOR)
-                            .map(GameSidebarEntry::new)
-                            .toArray(GameSidebarEntry[]::new));
+            this.gamesVBox.getChildren().setAll(this.sortedGames.stream()
+                    .map(GameSidebarEntry::new)
+                    .toArray(GameSidebarEntry[]::new));
 
             this.scrollPane.setContent(this.gamesVBox);
             this.scrollPane.setBackground(Utils.createBackground("#3f3f4a"));
@@ -146,13 +150,31 @@ public class HomeSidebarPane extends VBox {
             setAlignment(this.title, Pos.CENTER);
             setAlignment(this.scrollPane, Pos.CENTER);
 
-            Database.getInstance().getGames().addListener((ListChangeListener.Change<?> change) -> {
-                this.gamesVBox.getChildren().setAll(Database.getInstance().getGames()
-                        .stream()
-                        .sorted(GAME_TITLE_COMPARATOR)
-                        .map(GameSidebarEntry::new)
-                        .toArray(GameSidebarEntry[]::new));
-            });
+            this.sortedGames.addListener(this::applyChange);
+        }
+
+        private void applyChange(ListChangeListener.Change<? extends Game> change) {
+            ObservableList<Node> entries = this.gamesVBox.getChildren();
+            while (change.next()) {
+                int from = change.getFrom();
+                if (change.wasPermutated()) {
+                    List<Node> permuted = new ArrayList<>(entries.subList(from, change.getTo()));
+                    for (int index = from; index < change.getTo(); index++) {
+                        permuted.set(change.getPermutation(index) - from, entries.get(index));
+                    }
+
+                    entries.remove(from, change.getTo());
+                    entries.addAll(from, permuted);
+                    continue;
+                }
+
+                if (change.wasRemoved())
+                    entries.remove(from, from + change.getRemovedSize());
+                if (change.wasAdded())
+                    entries.addAll(from, change.getAddedSubList().stream()
+                            .map(GameSidebarEntry::new)
+                            .toList());
+            }
         }
     }
 
@@ -0,0 +1,279 @@
+package dev.turtywurty.gamedashboard.data;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs the batched lookups against a local mock of the games API. The batch endpoints answer with BATCH_STATUS,
+// so the fallback to single requests can be checked too. Batch support is remembered for the whole JVM, so the
+// tests run in order and the one that turns batching off for good runs last.
+// Run from the project directory, so env/.env supplies the API key.
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class APIConnectorBatchTest {
+    private static final long BATCH_RETRY_DELAY_MILLIS = 2_000;
+    private static final Path APP_DATA_PATH;
+    private static final HttpServer SERVER;
+    private static final AtomicInteger BATCH_STATUS = new AtomicInteger(200);
+    private static final AtomicInteger BATCH_REQUESTS = new AtomicInteger();
+    private static final AtomicInteger SINGLE_REQUESTS = new AtomicInteger();
+    private static final AtomicInteger NEXT_ID = new AtomicInteger(1);
+
+    // APIConnector reads these once when it is loaded, so they must be set before it is first touched.
+    static {
+        try {
+            APP_DATA_PATH = Files.createTempDirectory("gamedashboard-test");
+            SERVER = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        SERVER.createContext("/games/batch", exchange -> respondBatch(exchange, APIConnectorBatchTest::gamesBatch));
+        SERVER.createContext("/games/cover/batch", exchange -> respondBatch(exchange, APIConnectorBatchTest::coversBatch));
+        SERVER.createContext("/games/external/batch", exchange -> respondBatch(exchange, APIConnectorBatchTest::externalBatch));
+        SERVER.createContext("/games/cover", exchange -> respondSingle(exchange, cover(-parseId(exchange, "id"))));
+        SERVER.createContext("/games/external", exchange ->
+                respondSingle(exchange, externalGame(query(exchange).get("externalId"))));
+        SERVER.createContext("/games", exchange ->
+                respondSingle(exchange, game(parseId(exchange, "id"), query(exchange).get("fields"))));
+        SERVER.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        SERVER.start();
+
+        System.setProperty("gamedashboard.appDataDir", APP_DATA_PATH.toString());
+        System.setProperty("gamedashboard.api.baseUrl", "http://127.0.0.1:" + SERVER.getAddress().getPort() + "/");
+        System.setProperty("gamedashboard.api.requestsPerSecond", "100000");
+        System.setProperty("gamedashboard.api.burst", "100000");
+        System.setProperty("gamedashboard.api.batchRetryDelayMillis", Long.toString(BATCH_RETRY_DELAY_MILLIS));
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        SERVER.stop(0);
+        try (Stream<Path> paths = Files.walk(APP_DATA_PATH)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test
+    @Order(1)
+    void batchedLookupsReturnEveryGame() {
+        int singleRequests = SINGLE_REQUESTS.get();
+        int batchRequests = BATCH_REQUESTS.get();
+
+        assertLookupsResolve(nextIds(50));
+
+        assertEquals(singleRequests, SINGLE_REQUESTS.get(), "Expected no single requests");
+        assertTrue(BATCH_REQUESTS.get() > batchRequests, "Expected batch requests");
+    }
+
+    @Test
+    @Order(2)
+    void missingBatchEndpointFallsBackAndIsRetriedLater() throws InterruptedException {
+        BATCH_STATUS.set(404);
+        int singleRequests = SINGLE_REQUESTS.get();
+        assertLookupsResolve(nextIds(10));
+        assertTrue(SINGLE_REQUESTS.get() > singleRequests, "Expected single requests after a 404");
+
+        BATCH_STATUS.set(200);
+        int batchRequests = BATCH_REQUESTS.get();
+        assertLookupsResolve(nextIds(10));
+        assertEquals(batchRequests, BATCH_REQUESTS.get(), "Expected batching to wait for the retry delay");
+
+        Thread.sleep(BATCH_RETRY_DELAY_MILLIS + 250);
+        singleRequests = SINGLE_REQUESTS.get();
+        assertLookupsResolve(nextIds(10));
+        assertTrue(BATCH_REQUESTS.get() > batchRequests, "Expected batching to be retried");
+        assertEquals(singleRequests, SINGLE_REQUESTS.get(), "Expected no single requests once batching is back");
+    }
+
+    @Test
+    @Order(3)
+    void unsupportedBatchEndpointIsNotRetried() throws InterruptedException {
+        BATCH_STATUS.set(405);
+        assertLookupsResolve(nextIds(10));
+
+        BATCH_STATUS.set(200);
+        Thread.sleep(BATCH_RETRY_DELAY_MILLIS + 250);
+        int batchRequests = BATCH_REQUESTS.get();
+        assertLookupsResolve(nextIds(10));
+        assertEquals(batchRequests, BATCH_REQUESTS.get(), "Expected batching to stay off after a 405");
+    }
+
+    private static void assertLookupsResolve(List<Integer> ids) {
+        Map<Integer, APIConnector.GameResult> games = APIConnector.getGamesByIDs(ids, true, true).join();
+        for (int id : ids) {
+            APIConnector.GameResult game = games.get(id);
+            assertNotNull(game, "No game for " + id);
+            assertEquals(name(id), game.getName());
+            assertEquals(summary(id), game.getSummary());
+            assertTrue(game.getThumbCoverURL().endsWith("/t_thumb/" + id + ".jpg"), game.getThumbCoverURL());
+            assertTrue(game.getCoverURL().endsWith("/t_cover_big/" + id + ".jpg"), game.getCoverURL());
+        }
+
+        List<String> externalIds = ids.stream().map(APIConnectorBatchTest::externalId).toList();
+        Map<String, Integer> gameIds = APIConnector.getGameIdsFromExternalIds(
+                APIConnector.ExternalPlatform.STEAM,
+                externalIds
+        ).join();
+        for (int id : ids) {
+            assertEquals(Integer.valueOf(id), gameIds.get(externalId(id)), "Wrong game ID for " + externalId(id));
+        }
+    }
+
+    // Every lookup asks for ids that have not been seen yet, so the response cache never answers for the server.
+    private static List<Integer> nextIds(int count) {
+        int first = NEXT_ID.getAndAdd(count);
+        List<Integer> ids = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            ids.add(first + index);
+        }
+
+        return ids;
+    }
+
+    private static JsonArray gamesBatch(HttpExchange exchange) {
+        String fields = query(exchange).get("fields");
+        var games = new JsonArray();
+        for (String id : query(exchange).get("ids").split(",")) {
+            games.add(game(Integer.parseInt(id), fields));
+        }
+
+        return games;
+    }
+
+    private static JsonArray coversBatch(HttpExchange exchange) {
+        var covers = new JsonArray();
+        for (String id : query(exchange).get("ids").split(",")) {
+            covers.add(cover(-Integer.parseInt(id)));
+        }
+
+        return covers;
+    }
+
+    private static JsonArray externalBatch(HttpExchange exchange) {
+        var games = new JsonArray();
+        for (String externalId : query(exchange).get("externalIds").split(",")) {
+            games.add(externalGame(externalId));
+        }
+
+        return games;
+    }
+
+    private static JsonObject game(int id, String fields) {
+        List<String> requestedFields = List.of(fields.split(","));
+        var game = new JsonObject();
+        game.addProperty("id", id);
+        game.addProperty("name", name(id));
+        if (requestedFields.contains("summary"))
+            game.addProperty("summary", summary(id));
+        if (requestedFields.contains("cover"))
+            game.addProperty("cover", -id);
+        return game;
+    }
+
+    // Cover ids are the negated game id, so a cover that comes back attached to the wrong game is caught.
+    private static JsonObject cover(int gameId) {
+        var cover = new JsonObject();
+        cover.addProperty("id", -gameId);
+        cover.addProperty("game", gameId);
+        cover.addProperty("url", "//images.igdb.com/igdb/image/upload/t_thumb/" + gameId + ".jpg");
+        return cover;
+    }
+
+    private static JsonObject externalGame(String externalId) {
+        var game = new JsonObject();
+        game.addProperty("externalId", externalId);
+        game.addProperty("id", Integer.parseInt(externalId.substring("app".length())));
+        return game;
+    }
+
+    private static void respondBatch(HttpExchange exchange, Function<HttpExchange, JsonArray> body) throws IOException {
+        BATCH_REQUESTS.incrementAndGet();
+        int status = BATCH_STATUS.get();
+        respond(exchange, status, status == 200 ? body.apply(exchange) : null);
+    }
+
+    private static void respondSingle(HttpExchange exchange, JsonObject body) throws IOException {
+        SINGLE_REQUESTS.incrementAndGet();
+        respond(exchange, 200, body);
+    }
+
+    private static void respond(HttpExchange exchange, int status, JsonElement body) throws IOException {
+        try (exchange) {
+            byte[] bytes = body == null ? new byte[0] : body.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+            if (bytes.length > 0) {
+                try (OutputStream output = exchange.getResponseBody()) {
+                    output.write(bytes);
+                }
+            }
+        }
+    }
+
+    private static int parseId(HttpExchange exchange, String parameter) {
+        return Integer.parseInt(query(exchange).get(parameter));
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null)
+            return parameters;
+
+        for (String parameter : query.split("&")) {
+            int separator = parameter.indexOf('=');
+            if (separator > 0) {
+                parameters.put(
+                        URLDecoder.decode(parameter.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8)
+                );
+            }
+        }
+
+        return parameters;
+    }
+
+    private static String name(int id) {
+        return "Game " + id;
+    }
+
+    private static String summary(int id) {
+        return "Summary of game " + id;
+    }
+
+    private static String externalId(int id) {
+        return "app" + id;
+    }
+}